@@ -0,0 +1,52 @@
+#!/usr/bin/env bash
+# Measures how fast a cold instance serves traffic: the time until its readiness
+# probe passes and until it answers a first request, then the latencies of its
+# first minute under load, recorded by the load generator of the loadtest suite.
+#
+# Usage: scripts/measure-startup.sh <label> <command starting the application>
+#
+#   scripts/measure-startup.sh jar java -jar target/thread-safe-singly-linked-list-0.0.1-SNAPSHOT.jar
+#   scripts/measure-startup.sh fast docker run --rm -p 8080:8080 thread-safe-linked-list:fast
+#
+# The application must listen on PORT (default 8080). DURATION sets the seconds
+# of load (default 60) and LOADTEST_OPTS passes loadtest.* system properties to
+# the load generator. The results are written to target/startup/<label>.
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+label=$1
+shift
+port=${PORT:-8080}
+duration=${DURATION:-60}
+output=target/startup/$label
+mkdir -p "$output"
+
+now() {
+    date +%s%3N
+}
+
+# Compile the load generator and resolve its class path before starting the clock
+./mvnw -q test-compile dependency:build-classpath -Dmdep.outputFile=target/test-classpath.txt -Dmdep.includeScope=test
+
+start=$(now)
+"$@" > "$output/application.log" 2>&1 &
+application=$!
+trap 'kill $application 2> /dev/null || true' EXIT
+
+until curl -fs -o /dev/null "http://localhost:$port/actuator/health/readiness"; do
+    if ! kill -0 $application 2> /dev/null; then
+        echo "The application exited, see $output/application.log" >&2
+        exit 1
+    fi
+    sleep 0.01
+done
+ready=$(now)
+curl -fs -o /dev/null "http://localhost:$port/api/linkedlist/all"
+first=$(now)
+echo "Ready after $((ready - start)) ms, first request answered after $((first - start)) ms" | tee "$output/startup.txt"
+
+# Load the instance right away: no warm-up period is discarded
+java -cp "target/test-classes:$(cat target/test-classpath.txt)" \
+    -Dloadtest.warmupSeconds=0 -Dloadtest.durationSeconds="$duration" -Dloadtest.output="$output" \
+    ${LOADTEST_OPTS:-} \
+    com.trinhxuantam.threadsafesinglylinkedlist.loadtest.LoadGenerator "http://localhost:$port/api/linkedlist/"
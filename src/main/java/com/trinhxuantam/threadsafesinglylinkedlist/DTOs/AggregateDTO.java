@@ -0,0 +1,17 @@
+package com.trinhxuantam.threadsafesinglylinkedlist.DTOs;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the result of an aggregate query over the linked list.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AggregateDTO {
+    private Long value; // The aggregated value
+}
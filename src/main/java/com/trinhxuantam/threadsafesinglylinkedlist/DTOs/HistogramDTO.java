@@ -0,0 +1,20 @@
+package com.trinhxuantam.threadsafesinglylinkedlist.DTOs;
+
+import java.util.SortedMap;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the histogram of the elements of the linked list.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HistogramDTO {
+    private Long bucketWidth; // The width of the buckets
+    private SortedMap<Long, Long> buckets; // The number of elements of every non-empty bucket, by its start
+}
@@ -0,0 +1,19 @@
+package com.trinhxuantam.threadsafesinglylinkedlist.DTOs;
+
+import java.util.Set;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for removing every occurrence of a set of elements from the linked list.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RemoveElementsDTO {
+    private Set<Integer> elements; // The elements to remove
+}
@@ -2,6 +2,7 @@ package com.trinhxuantam.threadsafesinglylinkedlist.config;
 
 import java.util.NoSuchElementException;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -16,9 +17,11 @@ import lombok.Setter;
  * Global exception handler for catching and handling exceptions across the
  * entire application.
  * It intercepts exceptions thrown from any controller and provides a standard
- * response.
+ * response. Only active on the servlet stack, see
+ * {@link ReactiveExceptionHandler} for the reactive one.
  */
 @ControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
     /**
      * Handles NoSuchElementException exceptions thrown.
@@ -42,6 +45,17 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return new ResponseEntity<>(new ErrorResponse("Illegal state", ex.getMessage()), HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Handles IllegalArgumentException exceptions thrown.
+     * 
+     * @param ex The exception
+     * @return The response entity with the error details
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    protected ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException ex) {
+        return new ResponseEntity<>(new ErrorResponse("Malformed request", ex.getMessage()), HttpStatus.BAD_REQUEST);
+    }
+
     /**
      * Handles all other exceptions.
      * 
@@ -0,0 +1,13 @@
+package com.trinhxuantam.threadsafesinglylinkedlist.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers the linked list settings set in the {@code linkedlist.*}
+ * properties.
+ */
+@Configuration
+@EnableConfigurationProperties(LinkedListProperties.class)
+public class LinkedListConfig {
+}
@@ -0,0 +1,39 @@
+package com.trinhxuantam.threadsafesinglylinkedlist.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import com.trinhxuantam.threadsafesinglylinkedlist.utils.collections.ListStrategy;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Linked list settings, bound from the {@code linkedlist.*} properties.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "linkedlist")
+public class LinkedListProperties {
+
+    private ListStrategy strategy = ListStrategy.LOCK_FREE; // Implementation backing the list
+
+    private boolean incrementalAggregates; // Whether to maintain the aggregates on every mutation
+
+    private int queryParallelism = Runtime.getRuntime().availableProcessors(); // Threads evaluating the queries
+
+    private final Warmup warmup = new Warmup(); // Warm-up run before the instance reports ready
+
+    /**
+     * Warm-up settings, bound from the {@code linkedlist.warmup.*} properties.
+     */
+    @Getter
+    @Setter
+    public static class Warmup {
+
+        private boolean enabled; // Whether to warm the list up before the instance reports ready
+
+        private int iterations = 20_000; // Rounds of operations run by each thread
+
+        private int threads = 2; // Threads exercising the list concurrently
+    }
+}
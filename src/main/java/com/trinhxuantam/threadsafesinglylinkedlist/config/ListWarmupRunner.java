@@ -0,0 +1,129 @@
+package com.trinhxuantam.threadsafesinglylinkedlist.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trinhxuantam.threadsafesinglylinkedlist.DTOs.ListDTO;
+import com.trinhxuantam.threadsafesinglylinkedlist.utils.collections.ConcurrentList;
+
+/**
+ * Warms the list up before the instance reports ready, when
+ * {@code linkedlist.warmup.enabled} is set.
+ * <p>
+ * Spring Boot only marks the application as accepting traffic, which is what
+ * the readiness probe reports, once the application runners have completed.
+ * This runner uses that window to exercise {@code push}, {@code insertAfter},
+ * {@code pop} and {@code getAll} from several threads, so that the JIT compiles
+ * the hot paths of the configured list strategy, contended paths included,
+ * before the first request arrives. The operations run on a scratch list of
+ * the same strategy: the list of the service, and therefore the replication
+ * log, are left untouched. The elements read are serialized to JSON with the
+ * mapper of the endpoints, which warms it up as well.
+ */
+@Component
+public class ListWarmupRunner implements ApplicationRunner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ListWarmupRunner.class);
+
+    private static final int BASE_SIZE = 64; // Elements kept in the scratch list so that traversals have work to do
+
+    private static final int READ_INTERVAL = 64; // Rounds between two reads of the whole list
+
+    @Autowired
+    private LinkedListProperties properties; // List settings
+
+    @Autowired(required = false)
+    private ObjectMapper objectMapper; // JSON mapper of the endpoints, absent without a web stack
+
+    private volatile boolean completed; // Set once the warm-up has run
+
+    /**
+     * Tells whether the warm-up has run to completion.
+     *
+     * @return true once the warm-up has completed, false if it is disabled or
+     *         still running
+     */
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    /**
+     * Runs the warm-up if it is enabled.
+     *
+     * @param args The application arguments
+     * @throws Exception If a warm-up thread fails
+     */
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        LinkedListProperties.Warmup warmup = properties.getWarmup();
+        if (!warmup.isEnabled()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        ConcurrentList<Integer> list = properties.getStrategy().create();
+        for (int i = 0; i < BASE_SIZE; i++) {
+            list.push(i);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(warmup.getThreads());
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < warmup.getThreads(); thread++) {
+                futures.add(executor.submit(() -> {
+                    exercise(list, warmup.getIterations());
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        completed = true;
+        LOGGER.info("Warmed up the {} list with {} threads in {} ms", properties.getStrategy(), warmup.getThreads(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Runs rounds of operations on the scratch list. Each round adds two
+     * elements and removes two, so the list keeps its size. Concurrent rounds may
+     * remove the element another round inserts after, which is expected.
+     *
+     * @param list       The scratch list
+     * @param iterations The number of rounds
+     * @throws Exception If the elements cannot be serialized
+     */
+    private void exercise(ConcurrentList<Integer> list, int iterations) throws Exception {
+        for (int i = 0; i < iterations; i++) {
+            int value = BASE_SIZE + i;
+            list.push(value);
+            try {
+                list.insertAfter(value + 1, i % BASE_SIZE);
+            } catch (NoSuchElementException e) {
+                list.push(value + 1);
+            }
+            list.pop();
+            list.pop();
+
+            if (i % READ_INTERVAL == 0) {
+                List<Integer> elements = list.getAll();
+                if (objectMapper != null) {
+                    objectMapper.writeValueAsBytes(new ListDTO<>(elements));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.trinhxuantam.threadsafesinglylinkedlist.config;
+
+import java.util.NoSuchElementException;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+import com.trinhxuantam.threadsafesinglylinkedlist.config.GlobalExceptionHandler.ErrorResponse;
+
+/**
+ * Exception handler of the reactive stack, mapping the exceptions of the
+ * controllers to the same responses as {@link GlobalExceptionHandler} does on
+ * the servlet stack.
+ */
+@ControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveExceptionHandler {
+    /**
+     * Handles NoSuchElementException exceptions thrown.
+     * 
+     * @param ex The exception
+     * @return The response entity with the error details
+     */
+    @ExceptionHandler(NoSuchElementException.class)
+    protected ResponseEntity<ErrorResponse> handleNoSuchElementException(NoSuchElementException ex) {
+        return new ResponseEntity<>(new ErrorResponse("Element not found", ex.getMessage()), HttpStatus.NOT_FOUND);
+    }
+
+    /**
+     * Handles IllegalStateException exceptions thrown.
+     * 
+     * @param ex The exception
+     * @return The response entity with the error details
+     */
+    @ExceptionHandler(IllegalStateException.class)
+    protected ResponseEntity<ErrorResponse> handleIllegalStateException(IllegalStateException ex) {
+        return new ResponseEntity<>(new ErrorResponse("Illegal state", ex.getMessage()), HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handles IllegalArgumentException exceptions thrown.
+     * 
+     * @param ex The exception
+     * @return The response entity with the error details
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    protected ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException ex) {
+        return new ResponseEntity<>(new ErrorResponse("Malformed request", ex.getMessage()), HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handles all other exceptions.
+     * 
+     * @param ex The exception
+     * @return The response entity with the error details
+     */
+    @ExceptionHandler(Exception.class)
+    protected ResponseEntity<ErrorResponse> handleGeneralException(Exception ex) {
+        return new ResponseEntity<>(new ErrorResponse("Internal server error", ex.getMessage()),
+                HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+}
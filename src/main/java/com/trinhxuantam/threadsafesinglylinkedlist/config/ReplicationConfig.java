@@ -0,0 +1,65 @@
+package com.trinhxuantam.threadsafesinglylinkedlist.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.trinhxuantam.threadsafesinglylinkedlist.services.LinkedListService;
+import com.trinhxuantam.threadsafesinglylinkedlist.utils.replication.ElementCodec;
+import com.trinhxuantam.threadsafesinglylinkedlist.utils.replication.OperationLog;
+import com.trinhxuantam.threadsafesinglylinkedlist.utils.replication.ReplicationFollower;
+import com.trinhxuantam.threadsafesinglylinkedlist.utils.replication.ReplicationLeader;
+
+/**
+ * Creates the replication components matching the role set in
+ * {@code linkedlist.replication.role}. A standalone instance gets none of them.
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicationProperties.class)
+public class ReplicationConfig {
+
+    /**
+     * Creates the operation log of a leader.
+     *
+     * @param properties The replication settings
+     * @return The operation log
+     */
+    @Bean
+    @ConditionalOnProperty(name = "linkedlist.replication.role", havingValue = "leader")
+    public OperationLog<Integer> operationLog(ReplicationProperties properties) {
+        return new OperationLog<>(properties.getLogCapacity());
+    }
+
+    /**
+     * Creates the leader endpoint streaming the operation log to followers.
+     *
+     * @param log        The operation log
+     * @param service    The service owning the replicated list
+     * @param properties The replication settings
+     * @return The leader endpoint, started with the context
+     */
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(name = "linkedlist.replication.role", havingValue = "leader")
+    public ReplicationLeader<Integer> replicationLeader(OperationLog<Integer> log, LinkedListService<Integer> service,
+            ReplicationProperties properties) {
+        return new ReplicationLeader<>(log, service::snapshot, ElementCodec.integers(), properties.getPort(),
+                properties.getHeartbeatInterval().toMillis());
+    }
+
+    /**
+     * Creates the follower replicating the leader's list into the local service.
+     *
+     * @param service    The service owning the local copy of the list
+     * @param properties The replication settings
+     * @return The follower, started with the context
+     */
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(name = "linkedlist.replication.role", havingValue = "follower")
+    public ReplicationFollower<Integer> replicationFollower(LinkedListService<Integer> service,
+            ReplicationProperties properties) {
+        return new ReplicationFollower<>(properties.getLeaderHost(), properties.getLeaderPort(),
+                ElementCodec.integers(), service::applyReplicated, service::loadReplicated,
+                properties.getTimeout().toMillis(), properties.getReconnectDelay().toMillis());
+    }
+}
@@ -0,0 +1,55 @@
+package com.trinhxuantam.threadsafesinglylinkedlist.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Replication settings, bound from the {@code linkedlist.replication.*}
+ * properties.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "linkedlist.replication")
+public class ReplicationProperties {
+
+    /**
+     * The replication role of an instance.
+     */
+    public enum Role {
+        /**
+         * The list is not replicated.
+         */
+        STANDALONE,
+
+        /**
+         * The instance accepts mutations and streams them to its followers.
+         */
+        LEADER,
+
+        /**
+         * The instance serves reads from a copy of the leader's list and rejects
+         * mutations.
+         */
+        FOLLOWER
+    }
+
+    private Role role = Role.STANDALONE; // Replication role of this instance
+
+    private int port = 7070; // Port the leader listens on for followers
+
+    private String leaderHost = "localhost"; // Host of the leader, for followers
+
+    private int leaderPort = 7070; // Replication port of the leader, for followers
+
+    private int logCapacity = 100_000; // Operations retained by the leader for catching up
+
+    private Duration heartbeatInterval = Duration.ofSeconds(1); // Idle time after which the leader sends a heartbeat
+
+    private Duration timeout = Duration.ofSeconds(5); // Silence after which a follower reconnects
+
+    private Duration reconnectDelay = Duration.ofSeconds(1); // Delay between connection attempts of a follower
+}
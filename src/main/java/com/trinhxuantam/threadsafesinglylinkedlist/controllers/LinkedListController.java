@@ -1,31 +1,62 @@
 package com.trinhxuantam.threadsafesinglylinkedlist.controllers;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.trinhxuantam.threadsafesinglylinkedlist.DTOs.AddElementDTO;
+import com.trinhxuantam.threadsafesinglylinkedlist.DTOs.AggregateDTO;
+import com.trinhxuantam.threadsafesinglylinkedlist.DTOs.HistogramDTO;
 import com.trinhxuantam.threadsafesinglylinkedlist.DTOs.InsertElementDTO;
 import com.trinhxuantam.threadsafesinglylinkedlist.DTOs.ListDTO;
+import com.trinhxuantam.threadsafesinglylinkedlist.DTOs.RemoveElementsDTO;
+import com.trinhxuantam.threadsafesinglylinkedlist.services.BinaryProtocolService;
 import com.trinhxuantam.threadsafesinglylinkedlist.services.LinkedListService;
+import com.trinhxuantam.threadsafesinglylinkedlist.utils.query.ElementPredicates;
+import com.trinhxuantam.threadsafesinglylinkedlist.utils.replication.ReplicationFollower;
+
+import jakarta.servlet.http.HttpServletResponse;
 
 /**
  * Controller class for handling requests related to the linked list.
+ * Only served on the servlet stack, see {@link ReactiveLinkedListController}
+ * for the reactive variant.
+ * <p>
+ * On a replication follower, the responses of the read endpoints report how
+ * stale they may be in the {@code X-Replication-Sequence} (last applied
+ * operation), {@code X-Replication-Lag} (operations known to be missing) and
+ * {@code X-Replication-Staleness-Ms} (time since the copy was last known to be
+ * up to date, -1 if never) headers.
  */
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/linkedlist")
 public class LinkedListController {
 
     @Autowired
     private LinkedListService<Integer> service; // Service for handling integer linked list operations
 
+    @Autowired
+    private BinaryProtocolService binaryService; // Service for handling binary encoded operations
+
+    @Autowired(required = false)
+    private ReplicationFollower<Integer> follower; // Replication follower, only present on a follower
+
     /**
      * Adds an element to the end of the linked list.
      * 
@@ -65,6 +96,36 @@ public class LinkedListController {
         return ResponseEntity.ok(new ListDTO<>(elements));
     }
 
+    /**
+     * Removes the first occurrence of an element from the linked list.
+     * 
+     * @param element The element to be removed
+     * @return The updated list of elements
+     */
+    @DeleteMapping("/remove/{element}")
+    public ResponseEntity<ListDTO<Integer>> removeElement(@PathVariable Integer element) {
+        service.remove(element);
+        List<Integer> elements = service.getAllElements();
+        return ResponseEntity.ok(new ListDTO<>(elements));
+    }
+
+    /**
+     * Removes every occurrence of a set of elements from the linked list in a
+     * single traversal.
+     * 
+     * @param dto The data transfer object containing the elements to be removed
+     * @return The updated list of elements
+     */
+    @DeleteMapping("/remove")
+    public ResponseEntity<ListDTO<Integer>> removeElements(@RequestBody RemoveElementsDTO dto) {
+        if (dto.getElements() == null) {
+            throw new IllegalArgumentException("The elements to remove are missing.");
+        }
+        service.removeAll(dto.getElements());
+        List<Integer> elements = service.getAllElements();
+        return ResponseEntity.ok(new ListDTO<>(elements));
+    }
+
     /**
      * Gets all elements in the linked list.
      * 
@@ -72,7 +133,117 @@ public class LinkedListController {
      */
     @GetMapping("/all")
     public ResponseEntity<ListDTO<Integer>> getAllElements() {
-        List<Integer> elements = service.getAllElements();
-        return ResponseEntity.ok(new ListDTO<>(elements));
+        return read(() -> new ListDTO<>(service.getAllElements()));
+    }
+
+    /**
+     * Counts the elements of the linked list, or the elements matching a
+     * predicate.
+     * 
+     * @param predicate The predicate selecting the elements to count, see
+     *                  {@link ElementPredicates}, or null to count all elements
+     * @return The number of matching elements
+     */
+    @GetMapping("/count")
+    public ResponseEntity<AggregateDTO> count(@RequestParam(required = false) String predicate) {
+        Predicate<Integer> filter = predicate == null ? null : ElementPredicates.parse(predicate);
+        return read(() -> new AggregateDTO(service.count(filter)));
+    }
+
+    /**
+     * Sums the elements of the linked list, ignoring null elements.
+     * 
+     * @return The sum of the elements
+     */
+    @GetMapping("/sum")
+    public ResponseEntity<AggregateDTO> sum() {
+        return read(() -> new AggregateDTO(service.sum()));
+    }
+
+    /**
+     * Gets the smallest element of the linked list, ignoring null elements.
+     * 
+     * @return The smallest element
+     */
+    @GetMapping("/min")
+    public ResponseEntity<AggregateDTO> min() {
+        return read(() -> new AggregateDTO(service.min()));
+    }
+
+    /**
+     * Gets the largest element of the linked list, ignoring null elements.
+     * 
+     * @return The largest element
+     */
+    @GetMapping("/max")
+    public ResponseEntity<AggregateDTO> max() {
+        return read(() -> new AggregateDTO(service.max()));
+    }
+
+    /**
+     * Counts the elements of the linked list in buckets of equal width, ignoring
+     * null elements.
+     * 
+     * @param bucketWidth The width of the buckets
+     * @return The number of elements of every non-empty bucket
+     */
+    @GetMapping("/histogram")
+    public ResponseEntity<HistogramDTO> histogram(@RequestParam(defaultValue = "10") long bucketWidth) {
+        return read(() -> new HistogramDTO(bucketWidth, service.histogram(bucketWidth)));
+    }
+
+    /**
+     * Gets the first elements of the linked list matching a predicate.
+     * 
+     * @param predicate The predicate selecting the elements, see
+     *                  {@link ElementPredicates}
+     * @param limit     The maximum number of elements to return, unlimited if
+     *                  absent
+     * @return The matching elements, in list order
+     */
+    @GetMapping("/filter")
+    public ResponseEntity<ListDTO<Integer>> filter(@RequestParam String predicate,
+            @RequestParam(defaultValue = "" + Long.MAX_VALUE) long limit) {
+        Predicate<Integer> filter = ElementPredicates.parse(predicate);
+        return read(() -> new ListDTO<>(service.filter(filter, limit)));
+    }
+
+    /**
+     * Executes a batch of operations encoded in the binary list protocol.
+     * The whole frame is decoded before the response is touched, so that a
+     * malformed frame is answered with a JSON error. The response frame is then
+     * streamed to the client as the operations execute.
+     * 
+     * @param frame    The request frame, see {@link BinaryProtocolService}
+     * @param response The response receiving the response frame
+     * @throws IOException If the response stream cannot be opened
+     */
+    @PostMapping(value = "/binary", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE, produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public void executeBinary(@RequestBody byte[] frame, HttpServletResponse response) throws IOException {
+        BinaryProtocolService.Batch batch = binaryService.decode(ByteBuffer.wrap(frame));
+        response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        binaryService.execute(batch, response.getOutputStream());
+    }
+
+    /**
+     * Answers a read, with the replication headers on a follower.
+     * 
+     * @param <B>   The type of the response body
+     * @param query The query computing the response body
+     * @return The response entity with the body
+     */
+    private <B> ResponseEntity<B> read(Supplier<B> query) {
+        if (follower == null) {
+            return ResponseEntity.ok(query.get());
+        }
+
+        // Read the status first so that it is a bound on the staleness of the body
+        ReplicationFollower.Status status = follower.getStatus();
+        B body = query.get();
+        return ResponseEntity.ok()
+                .header("X-Replication-Sequence", String.valueOf(status.sequence()))
+                .header("X-Replication-Lag", String.valueOf(Math.max(0, status.leaderSequence() - status.sequence())))
+                .header("X-Replication-Staleness-Ms", String.valueOf(status.stalenessMillis()))
+                .body(body);
     }
-}
\ No newline at end of file
+}
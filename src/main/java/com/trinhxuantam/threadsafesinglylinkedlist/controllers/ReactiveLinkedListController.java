@@ -0,0 +1,269 @@
+package com.trinhxuantam.threadsafesinglylinkedlist.controllers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.trinhxuantam.threadsafesinglylinkedlist.DTOs.AddElementDTO;
+import com.trinhxuantam.threadsafesinglylinkedlist.DTOs.InsertElementDTO;
+import com.trinhxuantam.threadsafesinglylinkedlist.DTOs.RemoveElementsDTO;
+import com.trinhxuantam.threadsafesinglylinkedlist.services.LinkedListService;
+import com.trinhxuantam.threadsafesinglylinkedlist.utils.replication.ReplicationFollower;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Reactive variant of {@link LinkedListController}, served by WebFlux on Netty
+ * with the {@code reactive} profile.
+ * <p>
+ * The elements are streamed as NDJSON, one JSON value per line, straight from a
+ * lazy traversal of the list: elements are read in chunks of
+ * {@value #CHUNK_SIZE}, each encoded into a single buffer when the client is
+ * ready to receive it, so neither the whole list nor its serialized form is
+ * held in memory and no thread waits on a slow client. Encoding and writing
+ * every element on its own would cost a signal, an encoder call and a buffer
+ * per element.
+ * <p>
+ * Mutations answer with an empty body instead of the updated list. They may
+ * block, on the lock of the replication log or on the locks of the list
+ * strategy, so they run on the bounded elastic scheduler rather than on the
+ * event loop or the parallel scheduler, whose few threads must never block.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/reactive/linkedlist")
+public class ReactiveLinkedListController {
+
+    private static final int CHUNK_SIZE = 8192; // Elements encoded into each buffer of the NDJSON stream
+
+    private static final int MAX_LINE_LENGTH = 12; // Longest line of an element: sign, ten digits and newline
+
+    private static final int INITIAL_SCRATCH_SIZE = 1024; // Initial size of the array chunks are encoded into
+
+    private static final byte[] NULL_LINE = "null\n".getBytes(StandardCharsets.US_ASCII); // Line of a null element
+
+    @Autowired
+    private LinkedListService<Integer> service; // Service for handling integer linked list operations
+
+    @Autowired(required = false)
+    private ReplicationFollower<Integer> follower; // Replication follower, only present on a follower
+
+    /**
+     * Adds an element to the end of the linked list.
+     * 
+     * @param dto The data transfer object containing the element to be added
+     * @return Completes once the element is added
+     */
+    @PostMapping("/add")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> addElement(@RequestBody Mono<AddElementDTO> dto) {
+        return dto.publishOn(Schedulers.boundedElastic())
+                .doOnNext(body -> service.append(body.getElement()))
+                .then();
+    }
+
+    /**
+     * Inserts an element after a specified element in the linked list.
+     * 
+     * @param dto The data transfer object containing the element to be inserted and
+     *            the element after which it should be inserted
+     * @return Completes once the element is inserted
+     */
+    @PostMapping("/insertAfter")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> insertAfter(@RequestBody Mono<InsertElementDTO> dto) {
+        return dto.publishOn(Schedulers.boundedElastic())
+                .doOnNext(body -> service.insertAfter(body.getElement(), body.getAfter()))
+                .then();
+    }
+
+    /**
+     * Removes the last element from the linked list.
+     * 
+     * @return The removed element, empty if it was null
+     */
+    @DeleteMapping("/pop")
+    public Mono<Optional<Integer>> removeLast() {
+        return Mono.fromCallable(() -> Optional.ofNullable(service.removeLast()))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Removes the first occurrence of an element from the linked list.
+     * 
+     * @param element The element to be removed
+     * @return Completes once the element is removed
+     */
+    @DeleteMapping("/remove/{element}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> removeElement(@PathVariable Integer element) {
+        return Mono.<Void>fromRunnable(() -> service.remove(element))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Removes every occurrence of a set of elements from the linked list in a
+     * single traversal.
+     * 
+     * @param dto The data transfer object containing the elements to be removed
+     * @return Completes once the elements are removed
+     */
+    @DeleteMapping("/remove")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> removeElements(@RequestBody Mono<RemoveElementsDTO> dto) {
+        return dto.publishOn(Schedulers.boundedElastic())
+                .doOnNext(body -> {
+                    if (body.getElements() == null) {
+                        throw new IllegalArgumentException("The elements to remove are missing.");
+                    }
+                    service.removeAll(body.getElements());
+                })
+                .then();
+    }
+
+    /**
+     * Streams all elements in the linked list as NDJSON, null elements included.
+     * The traversal is lazy and follows the demand of the client. On a
+     * replication follower, the response carries the same replication headers as
+     * {@link LinkedListController#getAllElements()}.
+     * 
+     * @param response The response, whose factory allocates the buffers
+     * @return The stream of elements
+     */
+    @GetMapping(value = "/all", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<Flux<DataBuffer>> getAllElements(ServerHttpResponse response) {
+        Flux<DataBuffer> elements = stream(response.bufferFactory());
+        if (follower == null) {
+            return ResponseEntity.ok(elements);
+        }
+
+        // Read the status first so that it is a bound on the staleness of the elements
+        ReplicationFollower.Status status = follower.getStatus();
+        return ResponseEntity.ok()
+                .header("X-Replication-Sequence", String.valueOf(status.sequence()))
+                .header("X-Replication-Lag", String.valueOf(Math.max(0, status.leaderSequence() - status.sequence())))
+                .header("X-Replication-Staleness-Ms", String.valueOf(status.stalenessMillis()))
+                .body(elements);
+    }
+
+    /**
+     * Creates a stream traversing the list once per subscription, emitting one
+     * buffer of NDJSON lines per chunk of elements. The traversal runs on the
+     * bounded elastic scheduler: with the lock based strategies, reading a node
+     * may wait for a concurrent write to release its lock.
+     *
+     * @param bufferFactory The factory of the response, pooling the buffers on
+     *                      Netty
+     * @return The stream of chunks
+     */
+    private Flux<DataBuffer> stream(DataBufferFactory bufferFactory) {
+        return Flux.<DataBuffer, ChunkEncoder>generate(() -> new ChunkEncoder(service.elements().iterator()),
+                (encoder, sink) -> {
+                    if (encoder.hasNext()) {
+                        sink.next(encoder.next(bufferFactory));
+                    } else {
+                        sink.complete();
+                    }
+                    return encoder;
+                }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Encodes the elements of one traversal in chunks of NDJSON lines. The lines
+     * are written to a scratch array that grows with the chunks and is reused for
+     * all of them, and each chunk is then copied to a buffer of its exact size.
+     */
+    private static final class ChunkEncoder {
+        private final Iterator<Integer> elements; // The traversal of the list
+
+        private byte[] scratch = new byte[INITIAL_SCRATCH_SIZE]; // Lines of the chunk being encoded
+
+        /**
+         * Constructs an encoder of a traversal.
+         *
+         * @param elements The traversal of the list
+         */
+        ChunkEncoder(Iterator<Integer> elements) {
+            this.elements = elements;
+        }
+
+        /**
+         * Checks if elements are left to encode.
+         *
+         * @return true if another chunk can be encoded
+         */
+        boolean hasNext() {
+            return elements.hasNext();
+        }
+
+        /**
+         * Encodes the next chunk of elements.
+         *
+         * @param bufferFactory The factory allocating the buffer of the chunk
+         * @return The buffer holding the lines of the chunk
+         */
+        DataBuffer next(DataBufferFactory bufferFactory) {
+            int length = 0;
+            for (int i = 0; i < CHUNK_SIZE && elements.hasNext(); i++) {
+                if (scratch.length - length < MAX_LINE_LENGTH) {
+                    scratch = Arrays.copyOf(scratch, scratch.length * 2);
+                }
+                length = writeLine(scratch, length, elements.next());
+            }
+            return bufferFactory.allocateBuffer(length).write(scratch, 0, length);
+        }
+    }
+
+    /**
+     * Writes an element as a line of JSON, without allocating.
+     *
+     * @param chunk   The buffer to write to
+     * @param offset  The position to write at
+     * @param element The element, may be null
+     * @return The position after the line
+     */
+    private static int writeLine(byte[] chunk, int offset, Integer element) {
+        if (element == null) {
+            System.arraycopy(NULL_LINE, 0, chunk, offset, NULL_LINE.length);
+            return offset + NULL_LINE.length;
+        }
+        long value = element;
+        if (value < 0) {
+            chunk[offset++] = '-';
+            value = -value;
+        }
+        // Write the digits backwards, then reverse them
+        int start = offset;
+        do {
+            chunk[offset++] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        for (int i = start, j = offset - 1; i < j; i++, j--) {
+            byte digit = chunk[i];
+            chunk[i] = chunk[j];
+            chunk[j] = digit;
+        }
+        chunk[offset++] = '\n';
+        return offset;
+    }
+}
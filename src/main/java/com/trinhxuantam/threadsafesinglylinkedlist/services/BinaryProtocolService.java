@@ -0,0 +1,203 @@
+package com.trinhxuantam.threadsafesinglylinkedlist.services;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.NoSuchElementException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.trinhxuantam.threadsafesinglylinkedlist.utils.protocol.BufferedStreamWriter;
+import com.trinhxuantam.threadsafesinglylinkedlist.utils.protocol.VarInts;
+
+/**
+ * Service executing batches of linked list operations encoded in a compact
+ * binary format, bypassing the boxing and JSON mapping of the REST endpoints.
+ * <p>
+ * A request frame is an unsigned varint holding the number of operations,
+ * followed by the operations. Each operation is an opcode byte followed by its
+ * arguments, elements being encoded as tagged varints (see {@link VarInts}):
+ * <ul>
+ * <li>{@code 0x01} push: element</li>
+ * <li>{@code 0x02} insert after: element, element after which to insert</li>
+ * <li>{@code 0x03} pop: no argument</li>
+ * <li>{@code 0x04} get all: no argument</li>
+ * </ul>
+ * The response frame is an unsigned varint holding the number of results,
+ * followed by one result per operation, in order. Each result is a status byte
+ * ({@code 0x00} ok, {@code 0x01} element not found, {@code 0x02} list empty)
+ * followed, for a successful pop, by the removed element and, for a successful
+ * get all, by the elements of the list terminated by {@link VarInts#END}.
+ * <p>
+ * The whole frame is decoded before any operation is executed, so a malformed
+ * frame has no effect on the list. The operations of a frame are executed in
+ * order but not atomically with respect to other clients.
+ */
+@Service
+public class BinaryProtocolService {
+
+    /**
+     * Opcode of the push operation.
+     */
+    public static final byte PUSH = 0x01;
+
+    /**
+     * Opcode of the insert after operation.
+     */
+    public static final byte INSERT_AFTER = 0x02;
+
+    /**
+     * Opcode of the pop operation.
+     */
+    public static final byte POP = 0x03;
+
+    /**
+     * Opcode of the get all operation.
+     */
+    public static final byte GET_ALL = 0x04;
+
+    /**
+     * Status of a successful operation.
+     */
+    public static final byte OK = 0x00;
+
+    /**
+     * Status of an insert after whose reference element is not in the list.
+     */
+    public static final byte NOT_FOUND = 0x01;
+
+    /**
+     * Status of a pop on an empty list.
+     */
+    public static final byte EMPTY = 0x02;
+
+    /**
+     * The maximum number of operations in a frame.
+     */
+    public static final int MAX_OPERATIONS = 65536;
+
+    private static final int BUFFER_SIZE = 8192; // Size of the per-thread response buffer
+
+    // Heap response buffers, reused by the pooled request threads and written to the response stream as is
+    private static final ThreadLocal<ByteBuffer> BUFFERS = ThreadLocal
+            .withInitial(() -> ByteBuffer.allocate(BUFFER_SIZE));
+
+    @Autowired
+    private LinkedListService<Integer> service; // Service for handling integer linked list operations
+
+    /**
+     * A decoded operation of a request frame.
+     */
+    private record Operation(byte opcode, Integer element, Integer after) {
+    }
+
+    /**
+     * The decoded operations of a request frame, ready to be executed.
+     */
+    public static final class Batch {
+
+        private final Operation[] operations; // The operations, in frame order
+
+        /**
+         * Creates a batch of decoded operations.
+         *
+         * @param operations the operations, in frame order
+         */
+        private Batch(Operation[] operations) {
+            this.operations = operations;
+        }
+    }
+
+    /**
+     * Decodes a request frame, executes its operations and writes the response
+     * frame to the stream.
+     *
+     * @param frame The request frame
+     * @param out   The stream receiving the response frame
+     * @throws IllegalArgumentException If the frame is malformed
+     */
+    public void execute(ByteBuffer frame, OutputStream out) throws IllegalArgumentException {
+        execute(decode(frame), out);
+    }
+
+    /**
+     * Executes the operations of a decoded frame and writes the response frame
+     * to the stream.
+     *
+     * @param batch The decoded request frame, see {@link #decode(ByteBuffer)}
+     * @param out   The stream receiving the response frame
+     */
+    public void execute(Batch batch, OutputStream out) {
+        Operation[] operations = batch.operations;
+
+        BufferedStreamWriter writer = new BufferedStreamWriter(BUFFERS.get(), out);
+        writer.writeUnsigned(operations.length);
+        for (Operation operation : operations) {
+            switch (operation.opcode()) {
+                case PUSH -> {
+                    service.append(operation.element());
+                    writer.writeByte(OK);
+                }
+                case INSERT_AFTER -> {
+                    try {
+                        service.insertAfter(operation.element(), operation.after());
+                        writer.writeByte(OK);
+                    } catch (NoSuchElementException e) {
+                        writer.writeByte(NOT_FOUND);
+                    }
+                }
+                case POP -> {
+                    Integer removed;
+                    try {
+                        removed = service.removeLast();
+                    } catch (IllegalStateException e) {
+                        writer.writeByte(EMPTY);
+                        break;
+                    }
+                    writer.writeByte(OK);
+                    writer.writeElement(removed);
+                }
+                default -> {
+                    // Stream the elements straight from the traversal into the buffer
+                    writer.writeByte(OK);
+                    service.forEachElement(writer::writeElement);
+                    writer.writeUnsigned(VarInts.END);
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    /**
+     * Decodes and validates all operations of a request frame, without executing
+     * any of them.
+     *
+     * @param frame The request frame
+     * @return The decoded operations
+     * @throws IllegalArgumentException If the frame is malformed
+     */
+    public Batch decode(ByteBuffer frame) throws IllegalArgumentException {
+        long count = VarInts.readUnsigned(frame);
+        if (count < 0 || count > MAX_OPERATIONS) {
+            throw new IllegalArgumentException("A frame holds at most " + MAX_OPERATIONS + " operations.");
+        }
+
+        Operation[] operations = new Operation[(int) count];
+        for (int i = 0; i < operations.length; i++) {
+            if (!frame.hasRemaining()) {
+                throw new IllegalArgumentException("Truncated frame.");
+            }
+            byte opcode = frame.get();
+            operations[i] = switch (opcode) {
+                case PUSH -> new Operation(opcode, VarInts.readElement(frame), null);
+                case INSERT_AFTER -> new Operation(opcode, VarInts.readElement(frame), VarInts.readElement(frame));
+                case POP, GET_ALL -> new Operation(opcode, null, null);
+                default -> throw new IllegalArgumentException("Unknown opcode: " + opcode);
+            };
+        }
+        if (frame.hasRemaining()) {
+            throw new IllegalArgumentException("Unexpected bytes after the last operation.");
+        }
+        return new Batch(operations);
+    }
+}
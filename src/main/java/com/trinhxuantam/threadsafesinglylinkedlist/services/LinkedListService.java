@@ -1,27 +1,148 @@
 package com.trinhxuantam.threadsafesinglylinkedlist.services;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import com.trinhxuantam.threadsafesinglylinkedlist.utils.collections.SinglyLinkedList;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import com.trinhxuantam.threadsafesinglylinkedlist.config.LinkedListProperties;
+import com.trinhxuantam.threadsafesinglylinkedlist.config.ReplicationProperties;
+import com.trinhxuantam.threadsafesinglylinkedlist.utils.collections.ConcurrentList;
+import com.trinhxuantam.threadsafesinglylinkedlist.utils.collections.ListStrategy;
+import com.trinhxuantam.threadsafesinglylinkedlist.utils.query.RunningAggregates;
+import com.trinhxuantam.threadsafesinglylinkedlist.utils.replication.Operation;
+import com.trinhxuantam.threadsafesinglylinkedlist.utils.replication.OperationLog;
+import com.trinhxuantam.threadsafesinglylinkedlist.utils.replication.Snapshot;
 
 /**
  * Service class for handling linked list operations.
+ * <p>
+ * On a replication leader, every mutation is applied and appended to the
+ * operation log under the lock of the log, so that followers replay the
+ * mutations in the order they were applied. On a follower, mutations are
+ * rejected and the list only changes through replication.
+ * <p>
+ * The implementation of the list is chosen with the {@code linkedlist.strategy}
+ * property, see {@link ListStrategy}.
+ * <p>
+ * Queries are evaluated with parallel streams on a dedicated fork/join pool of
+ * {@code linkedlist.query-parallelism} threads. The nodes of the list can only
+ * be reached one after the other, so its traversal is split into batches of
+ * growing size that the workers of the pool evaluate while the traversal goes
+ * on. The numeric queries require numeric elements and ignore null elements.
+ * With {@code linkedlist.incremental-aggregates}, the sum, minimum, maximum
+ * and histogram are instead maintained on every mutation, see
+ * {@link RunningAggregates}, and answered without traversing the list.
  */
 @Service
 public class LinkedListService<T> {
 
-    private final SinglyLinkedList<T> list = new SinglyLinkedList<>(); // The linked list
+    /**
+     * The linked list together with its aggregates. Both are replaced at once
+     * by a single write of the holder, so that a reader never pairs a list with
+     * the aggregates of another.
+     * 
+     * @param list       The linked list
+     * @param aggregates Aggregates of the list, null unless maintained
+     *                   incrementally
+     */
+    private record State<T>(ConcurrentList<T> list, RunningAggregates aggregates) {
+        /**
+         * Records an element added to the list in the incremental aggregates.
+         * 
+         * @param element The added element
+         */
+        void added(T element) {
+            if (aggregates != null && element != null) {
+                aggregates.add(toLong(element));
+            }
+        }
+
+        /**
+         * Records an element removed from the list in the incremental aggregates.
+         * 
+         * @param element The removed element
+         */
+        void removed(T element) {
+            if (aggregates != null && element != null) {
+                aggregates.remove(toLong(element));
+            }
+        }
+    }
+
+    private volatile State<T> state = new State<>(ListStrategy.LOCK_FREE.create(), null); // The list and its aggregates
+
+    private ForkJoinPool queryPool = ForkJoinPool.commonPool(); // Pool evaluating the queries
+
+    @Autowired(required = false)
+    private LinkedListProperties properties; // List settings
+
+    @Autowired(required = false)
+    private OperationLog<T> log; // Replication log, only present on a leader
+
+    @Autowired(required = false)
+    private ReplicationProperties replication; // Replication settings
+
+    /**
+     * Creates the list with the configured strategy, and the aggregates and the
+     * query pool with the configured settings.
+     */
+    @PostConstruct
+    public void init() {
+        state = new State<>(newList(), newAggregates());
+        if (properties != null) {
+            queryPool = new ForkJoinPool(properties.getQueryParallelism());
+        }
+    }
+
+    /**
+     * Shuts the query pool down.
+     */
+    @PreDestroy
+    public void destroy() {
+        if (queryPool != ForkJoinPool.commonPool()) {
+            queryPool.shutdown();
+        }
+    }
 
     /**
      * Appends an element to the end of the linked list.
      * 
      * @param element The element to be appended
+     * @throws IllegalStateException If this instance is a replication follower
      */
-    public void append(T element) {
-        list.push(element);
+    public void append(T element) throws IllegalStateException {
+        checkWritable();
+        State<T> current = state;
+        if (log == null) {
+            current.list().push(element);
+            current.added(element);
+            return;
+        }
+        synchronized (log) {
+            current.list().push(element);
+            current.added(element);
+            log.append(Operation.Type.PUSH, element, null);
+        }
     }
 
     /**
@@ -30,19 +151,89 @@ public class LinkedListService<T> {
      * @param element The element to be inserted
      * @param after   The element after which the new element should be inserted
      * @throws NoSuchElementException If the specified element is not found
+     * @throws IllegalStateException  If this instance is a replication follower
      */
-    public void insertAfter(T element, T after) throws NoSuchElementException {
-        list.insertAfter(element, after);
+    public void insertAfter(T element, T after) throws NoSuchElementException, IllegalStateException {
+        checkWritable();
+        State<T> current = state;
+        if (log == null) {
+            current.list().insertAfter(element, after);
+            current.added(element);
+            return;
+        }
+        synchronized (log) {
+            current.list().insertAfter(element, after);
+            current.added(element);
+            log.append(Operation.Type.INSERT_AFTER, element, after);
+        }
     }
 
     /**
      * Removes the last element from the linked list.
      * 
      * @return The removed element
-     * @throws IllegalStateException If the list is empty
+     * @throws IllegalStateException If the list is empty or this instance is a
+     *                               replication follower
      */
     public T removeLast() throws IllegalStateException {
-        return list.pop();
+        checkWritable();
+        State<T> current = state;
+        if (log == null) {
+            T removed = current.list().pop();
+            current.removed(removed);
+            return removed;
+        }
+        synchronized (log) {
+            T removed = current.list().pop();
+            current.removed(removed);
+            log.append(Operation.Type.POP, null, null);
+            return removed;
+        }
+    }
+
+    /**
+     * Removes the first occurrence of an element from the linked list.
+     * 
+     * @param element The element to be removed
+     * @throws NoSuchElementException If the element is not found
+     * @throws IllegalStateException  If this instance is a replication follower
+     */
+    public void remove(T element) throws NoSuchElementException, IllegalStateException {
+        checkWritable();
+        State<T> current = state;
+        if (log == null) {
+            removeFirst(current, element);
+            return;
+        }
+        synchronized (log) {
+            removeFirst(current, element);
+            log.append(Operation.Type.REMOVE, element, null);
+        }
+    }
+
+    /**
+     * Removes every occurrence of the given elements from the linked list in a
+     * single traversal.
+     * 
+     * @param elements The elements to be removed
+     * @return The number of removed elements
+     * @throws IllegalStateException If this instance is a replication follower
+     */
+    public int removeAll(Collection<T> elements) throws IllegalStateException {
+        checkWritable();
+        Set<T> distinct = new LinkedHashSet<>(elements);
+        State<T> current = state;
+        if (log == null) {
+            return current.list().removeIf(distinct::contains, current::removed);
+        }
+        synchronized (log) {
+            int removed = current.list().removeIf(distinct::contains, current::removed);
+            // Removing every occurrence of each element in turn leaves the same list
+            for (T element : distinct) {
+                log.append(Operation.Type.REMOVE_ALL, element, null);
+            }
+            return removed;
+        }
     }
 
     /**
@@ -51,6 +242,250 @@ public class LinkedListService<T> {
      * @return The list of elements
      */
     public List<T> getAllElements() {
-        return list.getAll();
+        return state.list().getAll();
+    }
+
+    /**
+     * Performs the given action for each element of the linked list, traversing
+     * it lazily without building an intermediate list.
+     * 
+     * @param action The action to perform on each element
+     */
+    public void forEachElement(Consumer<? super T> action) {
+        state.list().forEach(action);
+    }
+
+    /**
+     * Returns a lazy view of the elements of the linked list. Each iteration
+     * traverses the list as it is when the iteration starts, with the
+     * consistency of the iterator of the configured strategy.
+     * 
+     * @return The elements of the list
+     */
+    public Iterable<T> elements() {
+        return () -> state.list().iterator();
+    }
+
+    /**
+     * Counts the elements matching a predicate.
+     * 
+     * @param filter The predicate selecting the elements to count, or null to
+     *               count all elements
+     * @return The number of matching elements
+     */
+    public long count(Predicate<? super T> filter) {
+        if (filter == null) {
+            return state.list().size();
+        }
+        return query(elements -> elements.filter(filter).count());
+    }
+
+    /**
+     * Gets the first elements matching a predicate, in list order.
+     * 
+     * @param filter The predicate selecting the elements
+     * @param limit  The maximum number of elements to return
+     * @return The matching elements, from head to tail
+     * @throws IllegalArgumentException If the limit is negative
+     */
+    public List<T> filter(Predicate<? super T> filter, long limit) throws IllegalArgumentException {
+        if (limit < 0) {
+            throw new IllegalArgumentException("The limit must not be negative.");
+        }
+        return query(elements -> elements.filter(filter).limit(limit).toList());
+    }
+
+    /**
+     * Sums the non-null elements of the linked list.
+     * 
+     * @return The sum of the elements, 0 if there are none
+     */
+    public long sum() {
+        RunningAggregates current = state.aggregates();
+        if (current != null) {
+            return current.sum();
+        }
+        return query(elements -> numbers(elements).sum());
+    }
+
+    /**
+     * Gets the smallest non-null element of the linked list.
+     * 
+     * @return The smallest element
+     * @throws IllegalStateException If the list has no non-null elements
+     */
+    public long min() throws IllegalStateException {
+        RunningAggregates current = state.aggregates();
+        OptionalLong min = current != null ? current.min() : query(elements -> numbers(elements).min());
+        return min.orElseThrow(() -> new IllegalStateException("The list has no elements to aggregate."));
+    }
+
+    /**
+     * Gets the largest non-null element of the linked list.
+     * 
+     * @return The largest element
+     * @throws IllegalStateException If the list has no non-null elements
+     */
+    public long max() throws IllegalStateException {
+        RunningAggregates current = state.aggregates();
+        OptionalLong max = current != null ? current.max() : query(elements -> numbers(elements).max());
+        return max.orElseThrow(() -> new IllegalStateException("The list has no elements to aggregate."));
+    }
+
+    /**
+     * Counts the non-null elements of the linked list in buckets of equal width.
+     * The bucket of an element starts at the largest multiple of the width not
+     * greater than the element.
+     * 
+     * @param bucketWidth The width of the buckets
+     * @return The number of elements of every non-empty bucket, by the start of
+     *         the bucket in ascending order
+     * @throws IllegalArgumentException If the width is not positive
+     */
+    public SortedMap<Long, Long> histogram(long bucketWidth) throws IllegalArgumentException {
+        if (bucketWidth <= 0) {
+            throw new IllegalArgumentException("The bucket width must be positive.");
+        }
+        RunningAggregates current = state.aggregates();
+        if (current != null) {
+            return current.histogram(bucketWidth);
+        }
+        return query(elements -> numbers(elements).boxed().collect(Collectors.groupingBy(
+                value -> Math.floorDiv(value, bucketWidth) * bucketWidth, TreeMap::new, Collectors.counting())));
+    }
+
+    /**
+     * Takes a snapshot of the linked list consistent with the replication log.
+     * 
+     * @return The elements of the list and the sequence of the last operation
+     *         they reflect
+     * @throws IllegalStateException If this instance is not a replication leader
+     */
+    public Snapshot<T> snapshot() throws IllegalStateException {
+        if (log == null) {
+            throw new IllegalStateException("Only a replication leader can take snapshots.");
+        }
+        synchronized (log) {
+            return new Snapshot<>(log.lastSequence(), state.list().getAll());
+        }
+    }
+
+    /**
+     * Applies an operation replicated from the leader.
+     * 
+     * @param operation The operation to apply
+     * @throws NoSuchElementException If an insertion or a removal does not find
+     *                                its element, meaning that the copy diverged
+     * @throws IllegalStateException  If a pop finds the list empty, meaning that
+     *                                the copy diverged
+     */
+    public void applyReplicated(Operation<T> operation) throws NoSuchElementException, IllegalStateException {
+        T element = operation.element();
+        State<T> current = state;
+        switch (operation.type()) {
+            case PUSH -> {
+                current.list().push(element);
+                current.added(element);
+            }
+            case INSERT_AFTER -> {
+                current.list().insertAfter(element, operation.after());
+                current.added(element);
+            }
+            case POP -> current.removed(current.list().pop());
+            case REMOVE -> removeFirst(current, element);
+            case REMOVE_ALL -> current.list().removeIf(item -> Objects.equals(item, element), current::removed);
+        }
+    }
+
+    /**
+     * Replaces the content of the linked list with a snapshot replicated from the
+     * leader. Readers see either the previous content with its aggregates or
+     * the snapshot with its aggregates, never a mix of both.
+     * 
+     * @param snapshot The snapshot to load
+     */
+    public void loadReplicated(Snapshot<T> snapshot) {
+        State<T> loaded = new State<>(newList(), newAggregates());
+        for (T element : snapshot.elements()) {
+            loaded.list().push(element);
+            loaded.added(element);
+        }
+        state = loaded;
+    }
+
+    /**
+     * Removes the first occurrence of an element from the list.
+     * 
+     * @param current The list and its aggregates
+     * @param element The element to be removed
+     * @throws NoSuchElementException If the element is not found
+     */
+    private static <T> void removeFirst(State<T> current, T element) throws NoSuchElementException {
+        if (!current.list().remove(element)) {
+            throw new NoSuchElementException("The specified element is not present in the list.");
+        }
+        current.removed(element);
+    }
+
+    /**
+     * Evaluates a query on a parallel stream of the elements of the list, in the
+     * query pool.
+     * 
+     * @param query The query to evaluate
+     * @return The result of the query
+     */
+    private <R> R query(Function<Stream<T>, R> query) {
+        ConcurrentList<T> current = state.list();
+        // Parallel streams run in the pool of the thread starting them
+        return queryPool.submit(() -> query.apply(StreamSupport.stream(current.spliterator(), true))).join();
+    }
+
+    /**
+     * Maps a stream of elements to the numbers of its non-null elements.
+     * 
+     * @param elements The elements
+     * @return The numbers
+     */
+    private static LongStream numbers(Stream<?> elements) {
+        return elements.filter(Objects::nonNull).mapToLong(LinkedListService::toLong);
+    }
+
+    /**
+     * Converts a numeric element to a long.
+     * 
+     * @param element The element, a {@link Number}
+     * @return The value of the element
+     */
+    private static long toLong(Object element) {
+        return ((Number) element).longValue();
+    }
+
+    /**
+     * Creates an empty list with the configured strategy.
+     * 
+     * @return The new list
+     */
+    private ConcurrentList<T> newList() {
+        return properties == null ? ListStrategy.LOCK_FREE.create() : properties.getStrategy().create();
+    }
+
+    /**
+     * Creates empty aggregates if they are maintained incrementally.
+     * 
+     * @return The new aggregates, or null if they are computed per query
+     */
+    private RunningAggregates newAggregates() {
+        return properties != null && properties.isIncrementalAggregates() ? new RunningAggregates() : null;
+    }
+
+    /**
+     * Rejects mutations on a replication follower.
+     * 
+     * @throws IllegalStateException If this instance is a replication follower
+     */
+    private void checkWritable() throws IllegalStateException {
+        if (replication != null && replication.getRole() == ReplicationProperties.Role.FOLLOWER) {
+            throw new IllegalStateException("This instance is a read-only replication follower.");
+        }
     }
-}
\ No newline at end of file
+}
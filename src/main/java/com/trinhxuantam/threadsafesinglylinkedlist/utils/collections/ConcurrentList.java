@@ -0,0 +1,117 @@
+package com.trinhxuantam.threadsafesinglylinkedlist.utils.collections;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * A thread-safe list supporting the operations of the linked list service.
+ * Every method can be called concurrently from any number of threads.
+ * Implementations trade the cost of reads against the cost of writes
+ * differently, see {@link ListStrategy}.
+ *
+ * @param <T> the type of elements held in the list
+ */
+public interface ConcurrentList<T> extends Iterable<T> {
+
+    /**
+     * Retrieves all elements from the list in sequence.
+     *
+     * @return a list containing all elements in the list from head to tail
+     */
+    List<T> getAll();
+
+    /**
+     * Creates a spliterator over the elements of the list in sequence. It is
+     * ordered, so that parallel streams keep the order of the list in their
+     * results, in {@code limit} and {@code findFirst} in particular.
+     *
+     * @return an ordered spliterator over the elements of the list
+     */
+    @Override
+    default Spliterator<T> spliterator() {
+        return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED);
+    }
+
+    /**
+     * Checks if the list is empty.
+     *
+     * @return true if the list is empty, false otherwise
+     */
+    boolean isEmpty();
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @return the number of elements in the list
+     */
+    int size();
+
+    /**
+     * Adds a new element to the end of the list.
+     *
+     * @param value the element to add
+     */
+    void push(T value);
+
+    /**
+     * Inserts a new element after the first occurrence of an existing element.
+     * A null element is never found as the element to insert after.
+     *
+     * @param value the new element to insert
+     * @param after the element after which the new element should be inserted
+     * @throws NoSuchElementException if the element 'after' is not found
+     */
+    void insertAfter(T value, T after) throws NoSuchElementException;
+
+    /**
+     * Removes and returns the last element from the list.
+     *
+     * @return the last element of the list
+     * @throws IllegalStateException if the list is empty
+     */
+    T pop() throws IllegalStateException;
+
+    /**
+     * Removes the first occurrence of the specified element from the list.
+     *
+     * @param value the element to remove, may be null
+     * @return true if an element was removed, false if it is not in the list
+     */
+    boolean remove(T value);
+
+    /**
+     * Removes every occurrence of the specified elements from the list.
+     *
+     * @param values the elements to remove, may contain null
+     * @return the number of removed elements
+     */
+    int removeAll(Collection<? extends T> values);
+
+    /**
+     * Removes every element matching the specified predicate from the list.
+     *
+     * @param filter the predicate selecting the elements to remove
+     * @return the number of removed elements
+     */
+    default int removeIf(Predicate<? super T> filter) {
+        return removeIf(filter, item -> {
+        });
+    }
+
+    /**
+     * Removes every element matching the specified predicate from the list and
+     * passes each removed element to an action. The action is called exactly once
+     * for every element removed by this call, and never for elements removed
+     * concurrently by other calls.
+     *
+     * @param filter    the predicate selecting the elements to remove
+     * @param onRemoved the action called with every removed element
+     * @return the number of removed elements
+     */
+    int removeIf(Predicate<? super T> filter, Consumer<? super T> onRemoved);
+}
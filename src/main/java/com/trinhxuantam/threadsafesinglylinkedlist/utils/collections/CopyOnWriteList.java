@@ -0,0 +1,239 @@
+package com.trinhxuantam.threadsafesinglylinkedlist.utils.collections;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * This class implements a thread-safe list that copies its elements on every
+ * modification. The elements are held in an array that is never modified once
+ * published: writers build a new array under a lock and publish it through a
+ * volatile reference, while readers use the array they find without any
+ * synchronization.
+ * <p>
+ * Reads are as cheap as reading an array, but every write copies the whole
+ * list, so this strategy only suits lists that are small or rarely modified.
+ *
+ * @param <T> the type of elements held in the list
+ */
+public class CopyOnWriteList<T> implements ConcurrentList<T> {
+
+    private final ReentrantLock lock = new ReentrantLock(); // Serializes the writers
+
+    private volatile Object[] elements = new Object[0]; // The published elements, never modified
+
+    /**
+     * Retrieves all elements from the list in sequence.
+     *
+     * @return a list containing all elements in the list from head to tail
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<T> getAll() {
+        return new ArrayList<>((List<T>) Arrays.asList(elements));
+    }
+
+    /**
+     * Returns an iterator over the elements of the list when it was created. It
+     * never reflects changes made after it was created.
+     *
+     * @return an iterator over the elements of the list
+     */
+    @Override
+    public Iterator<T> iterator() {
+        Object[] snapshot = elements;
+        return new Iterator<>() {
+            private int index; // Index of the element returned next
+
+            @Override
+            public boolean hasNext() {
+                return index < snapshot.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (index >= snapshot.length) {
+                    throw new NoSuchElementException();
+                }
+                return (T) snapshot[index++];
+            }
+        };
+    }
+
+    /**
+     * Checks if the list is empty.
+     *
+     * @return true if the list is empty, false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return elements.length == 0;
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @return the number of elements in the list
+     */
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    /**
+     * Adds a new element to the end of the list.
+     *
+     * @param value the element to add
+     */
+    @Override
+    public void push(T value) {
+        lock.lock();
+        try {
+            Object[] current = elements;
+            Object[] updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = value;
+            elements = updated;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Inserts a new element after a specified existing element.
+     *
+     * @param value the new element to insert
+     * @param after the element after which the new element should be inserted
+     * @throws NoSuchElementException if the element 'after' is not found
+     */
+    @Override
+    public void insertAfter(T value, T after) throws NoSuchElementException {
+        lock.lock();
+        try {
+            Object[] current = elements;
+            int index = 0;
+            while (index < current.length && (current[index] == null || !current[index].equals(after))) {
+                index++;
+            }
+            if (index == current.length) {
+                throw new NoSuchElementException("The specified element is not present in the list.");
+            }
+            Object[] updated = new Object[current.length + 1];
+            System.arraycopy(current, 0, updated, 0, index + 1);
+            updated[index + 1] = value;
+            System.arraycopy(current, index + 1, updated, index + 2, current.length - index - 1);
+            elements = updated;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the last element from the list.
+     *
+     * @return the last element of the list
+     * @throws IllegalStateException if the list is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T pop() throws IllegalStateException {
+        lock.lock();
+        try {
+            Object[] current = elements;
+            if (current.length == 0) {
+                throw new IllegalStateException("Cannot pop from an empty list.");
+            }
+            elements = Arrays.copyOf(current, current.length - 1);
+            return (T) current[current.length - 1];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from the list.
+     *
+     * @param value the element to remove, may be null
+     * @return true if an element was removed, false if it is not in the list
+     */
+    @Override
+    public boolean remove(T value) {
+        return removeMatching(item -> Objects.equals(item, value), 1, item -> {
+        }) == 1;
+    }
+
+    /**
+     * Removes every occurrence of the specified elements from the list with a
+     * single copy.
+     *
+     * @param values the elements to remove, may contain null
+     * @return the number of removed elements
+     */
+    @Override
+    public int removeAll(Collection<? extends T> values) {
+        Set<T> set = new HashSet<>(values);
+        return set.isEmpty() ? 0 : removeMatching(set::contains, Integer.MAX_VALUE, item -> {
+        });
+    }
+
+    /**
+     * Removes every element matching the specified predicate from the list with a
+     * single copy.
+     *
+     * @param filter    the predicate selecting the elements to remove
+     * @param onRemoved the action called with every removed element
+     * @return the number of removed elements
+     */
+    @Override
+    public int removeIf(Predicate<? super T> filter, Consumer<? super T> onRemoved) {
+        Objects.requireNonNull(filter);
+        Objects.requireNonNull(onRemoved);
+        return removeMatching(filter, Integer.MAX_VALUE, onRemoved);
+    }
+
+    /**
+     * Removes up to a given number of elements matching a predicate, from head to
+     * tail, publishing a new array only if an element was removed.
+     *
+     * @param filter    the predicate selecting the elements to remove
+     * @param limit     the maximum number of elements to remove
+     * @param onRemoved the action called with every removed element
+     * @return the number of removed elements
+     */
+    @SuppressWarnings("unchecked")
+    private int removeMatching(Predicate<? super T> filter, int limit, Consumer<? super T> onRemoved) {
+        lock.lock();
+        try {
+            Object[] current = elements;
+            Object[] kept = new Object[current.length];
+            Object[] removed = new Object[current.length];
+            int size = 0;
+            int removedCount = 0;
+            for (Object element : current) {
+                if (removedCount < limit && filter.test((T) element)) {
+                    removed[removedCount++] = element;
+                } else {
+                    kept[size++] = element;
+                }
+            }
+            if (removedCount > 0) {
+                elements = Arrays.copyOf(kept, size);
+            }
+            for (int i = 0; i < removedCount; i++) {
+                onRemoved.accept((T) removed[i]);
+            }
+            return removedCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package com.trinhxuantam.threadsafesinglylinkedlist.utils.collections;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * This class implements a thread-safe singly linked list with one lock per
+ * node. Traversals use hand-over-hand (lock coupling) locking: the lock of the
+ * next node is acquired before the lock of the current one is released, so a
+ * thread only ever holds two adjacent nodes and threads working on different
+ * parts of the list do not block each other.
+ * <p>
+ * Locks are always acquired from head to tail, which rules out deadlocks. The
+ * tail is a hint that lets a push lock only the last node; when the hint is
+ * stale, the push walks the list like the other operations.
+ *
+ * @param <T> the type of elements held in the list
+ */
+public class HandOverHandLinkedList<T> implements ConcurrentList<T> {
+
+    /**
+     * Inner class to represent a node in the linked list.
+     * The next reference and the removed flag are only changed while holding the
+     * lock of the node.
+     */
+    private class Node {
+        private final T item; // The item contained in the node
+        private final ReentrantLock lock = new ReentrantLock(); // Guards the next reference of the node
+        private volatile Node next; // The next node, null if this is the last node
+        private volatile boolean removed; // Whether the node was unlinked from the list
+
+        /**
+         * Constructs a new node with the specified item.
+         *
+         * @param item the item to store in this node
+         */
+        public Node(T item) {
+            this.item = item;
+        }
+    }
+
+    private final Node head = new Node(null); // Dummy head node of the list
+
+    private volatile Node tail = head; // The last node, or a node before it
+
+    private final AtomicInteger size = new AtomicInteger(); // Number of elements in the list
+
+    /**
+     * Retrieves all elements from the list in sequence.
+     * The traversal couples the locks of the nodes, so it never observes a node
+     * that was unlinked before it reached it.
+     *
+     * @return a list containing all elements in the list from head to tail
+     */
+    @Override
+    public List<T> getAll() {
+        List<T> items = new ArrayList<>();
+        Node pred = head;
+        pred.lock.lock();
+        Node current = pred.next;
+        while (current != null) {
+            current.lock.lock();
+            pred.lock.unlock();
+            items.add(current.item);
+            pred = current;
+            current = current.next;
+        }
+        pred.lock.unlock();
+        return items;
+    }
+
+    /**
+     * Returns an iterator over the elements of the list from head to tail.
+     * The iterator follows the next references without locking, so it is weakly
+     * consistent: it never throws because of concurrent modifications and may or
+     * may not reflect changes made after it was created.
+     *
+     * @return an iterator over the elements of the list
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private Node next = head.next; // The node whose item is returned next
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public T next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                T item = next.item;
+                next = next.next;
+                return item;
+            }
+        };
+    }
+
+    /**
+     * Checks if the list is empty.
+     *
+     * @return true if the list is empty, false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size.get() == 0;
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @return the number of elements in the list
+     */
+    @Override
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Adds a new element to the end of the list. Only the last node is locked
+     * when the tail hint is up to date.
+     *
+     * @param value the element to add
+     */
+    @Override
+    public void push(T value) {
+        Node newNode = new Node(value);
+        Node last = tail;
+        last.lock.lock();
+        if (last.removed || last.next != null) {
+            // The hint is stale, walk to the actual last node
+            last.lock.unlock();
+            last = head;
+            last.lock.lock();
+            while (last.next != null) {
+                Node next = last.next;
+                next.lock.lock();
+                last.lock.unlock();
+                last = next;
+            }
+        }
+        try {
+            last.next = newNode;
+            tail = newNode;
+            size.incrementAndGet();
+        } finally {
+            last.lock.unlock();
+        }
+    }
+
+    /**
+     * Inserts a new element after a specified existing element.
+     *
+     * @param value the new element to insert
+     * @param after the element after which the new element should be inserted
+     * @throws NoSuchElementException if the element 'after' is not found
+     */
+    @Override
+    public void insertAfter(T value, T after) throws NoSuchElementException {
+        Node pred = head;
+        pred.lock.lock();
+        Node current = pred.next;
+        while (current != null) {
+            current.lock.lock();
+            pred.lock.unlock();
+            if (current.item != null && current.item.equals(after)) {
+                try {
+                    Node newNode = new Node(value);
+                    newNode.next = current.next;
+                    current.next = newNode;
+                    if (tail == current) {
+                        tail = newNode;
+                    }
+                    size.incrementAndGet();
+                    return;
+                } finally {
+                    current.lock.unlock();
+                }
+            }
+            pred = current;
+            current = current.next;
+        }
+        pred.lock.unlock();
+        throw new NoSuchElementException("The specified element is not present in the list.");
+    }
+
+    /**
+     * Removes and returns the last element from the list.
+     *
+     * @return the last element of the list
+     * @throws IllegalStateException if the list is empty
+     */
+    @Override
+    public T pop() throws IllegalStateException {
+        Node pred = head;
+        pred.lock.lock();
+        Node last = pred.next;
+        if (last == null) {
+            pred.lock.unlock();
+            throw new IllegalStateException("Cannot pop from an empty list.");
+        }
+        last.lock.lock();
+        // Walk to the last node, holding it and its predecessor
+        while (last.next != null) {
+            Node next = last.next;
+            next.lock.lock();
+            pred.lock.unlock();
+            pred = last;
+            last = next;
+        }
+        try {
+            pred.next = null;
+            last.removed = true;
+            tail = pred;
+            size.decrementAndGet();
+            return last.item;
+        } finally {
+            last.lock.unlock();
+            pred.lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from the list.
+     *
+     * @param value the element to remove, may be null
+     * @return true if an element was removed, false if it is not in the list
+     */
+    @Override
+    public boolean remove(T value) {
+        return removeMatching(item -> Objects.equals(item, value), 1, item -> {
+        }) == 1;
+    }
+
+    /**
+     * Removes every occurrence of the specified elements from the list in a
+     * single traversal.
+     *
+     * @param values the elements to remove, may contain null
+     * @return the number of removed elements
+     */
+    @Override
+    public int removeAll(Collection<? extends T> values) {
+        Set<T> set = new HashSet<>(values);
+        return set.isEmpty() ? 0 : removeMatching(set::contains, Integer.MAX_VALUE, item -> {
+        });
+    }
+
+    /**
+     * Removes every element matching the specified predicate from the list in a
+     * single traversal.
+     *
+     * @param filter    the predicate selecting the elements to remove
+     * @param onRemoved the action called with every removed element
+     * @return the number of removed elements
+     */
+    @Override
+    public int removeIf(Predicate<? super T> filter, Consumer<? super T> onRemoved) {
+        Objects.requireNonNull(filter);
+        Objects.requireNonNull(onRemoved);
+        return removeMatching(filter, Integer.MAX_VALUE, onRemoved);
+    }
+
+    /**
+     * Removes up to a given number of elements matching a predicate, from head to
+     * tail. A matching node is unlinked while holding its lock and the lock of its
+     * predecessor, which then stays locked to check the following node.
+     *
+     * @param filter    the predicate selecting the elements to remove
+     * @param limit     the maximum number of elements to remove
+     * @param onRemoved the action called with every removed element
+     * @return the number of removed elements
+     */
+    private int removeMatching(Predicate<? super T> filter, int limit, Consumer<? super T> onRemoved) {
+        int removedCount = 0;
+        Node pred = head;
+        pred.lock.lock();
+        try {
+            Node current = pred.next;
+            while (current != null && removedCount < limit) {
+                current.lock.lock();
+                boolean matches;
+                try {
+                    matches = filter.test(current.item);
+                } catch (RuntimeException e) {
+                    current.lock.unlock();
+                    throw e;
+                }
+                if (matches) {
+                    pred.next = current.next;
+                    current.removed = true;
+                    if (tail == current) {
+                        tail = pred;
+                    }
+                    current.lock.unlock();
+                    size.decrementAndGet();
+                    removedCount++;
+                    onRemoved.accept(current.item);
+                    current = pred.next;
+                } else {
+                    pred.lock.unlock();
+                    pred = current;
+                    current = current.next;
+                }
+            }
+        } finally {
+            pred.lock.unlock();
+        }
+        return removedCount;
+    }
+}
@@ -0,0 +1,61 @@
+package com.trinhxuantam.threadsafesinglylinkedlist.utils.collections;
+
+/**
+ * The available {@link ConcurrentList} implementations, each suiting a
+ * different balance of reads and writes.
+ */
+public enum ListStrategy {
+    /**
+     * The lock-free {@link SinglyLinkedList}: no operation ever blocks, and
+     * appends only contend on the tail. The default, suiting mixed workloads.
+     */
+    LOCK_FREE {
+        @Override
+        public <T> ConcurrentList<T> create() {
+            return new SinglyLinkedList<>();
+        }
+    },
+
+    /**
+     * The {@link HandOverHandLinkedList} with one lock per node: writes to
+     * different parts of the list proceed in parallel, but every traversal pays
+     * for locking each node. Suits write-heavy workloads spread over the list.
+     */
+    HAND_OVER_HAND {
+        @Override
+        public <T> ConcurrentList<T> create() {
+            return new HandOverHandLinkedList<>();
+        }
+    },
+
+    /**
+     * The {@link StampedLockLinkedList}: reads traverse without locking unless a
+     * write interferes, and writes are serialized. Suits read-heavy workloads
+     * with occasional writes.
+     */
+    STAMPED_LOCK {
+        @Override
+        public <T> ConcurrentList<T> create() {
+            return new StampedLockLinkedList<>();
+        }
+    },
+
+    /**
+     * The {@link CopyOnWriteList}: reads are plain array reads, and every write
+     * copies the list. Suits small lists that are rarely modified.
+     */
+    COPY_ON_WRITE {
+        @Override
+        public <T> ConcurrentList<T> create() {
+            return new CopyOnWriteList<>();
+        }
+    };
+
+    /**
+     * Creates an empty list of this strategy.
+     *
+     * @param <T> the type of elements held in the list
+     * @return the new list
+     */
+    public abstract <T> ConcurrentList<T> create();
+}
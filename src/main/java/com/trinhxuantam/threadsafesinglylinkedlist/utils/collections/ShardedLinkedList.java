@@ -0,0 +1,422 @@
+package com.trinhxuantam.threadsafesinglylinkedlist.utils.collections;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * A relaxed-order list that spreads appends over several independent
+ * {@link SinglyLinkedList} shards, each with its own tail and size, so that
+ * producers pushing from different threads do not contend on a single tail.
+ * <p>
+ * A push goes to the shard selected by the calling thread, or by the hash of a
+ * key when one is given. Reads see a merged view of all shards, in one of two
+ * {@link MergeOrder orders}.
+ * <p>
+ * Ordering guarantees:
+ * <ul>
+ * <li>Elements pushed by the same thread (or with the same key) always land in
+ * the same shard and are read back in the order they were pushed.</li>
+ * <li>There is no global order between elements of different shards beyond the
+ * one given by the merge order. In {@link MergeOrder#SEQUENCE} order, an
+ * element whose push completed before another push started is read before it;
+ * concurrent pushes may be read in either order. In
+ * {@link MergeOrder#INTERLEAVED} order, only the per-shard order holds.</li>
+ * <li>An element inserted with {@link #insertAfter} is read right after the
+ * element it was inserted after.</li>
+ * <li>{@link #pop()} removes the last element of the calling thread's shard,
+ * which is not necessarily the last element of the merged view.</li>
+ * <li>{@link #remove} removes the first occurrence in the merged view.</li>
+ * </ul>
+ * Because a pop depends on the calling thread, the list does not implement
+ * {@link ConcurrentList} and is not offered as a {@link ListStrategy}: it is
+ * meant for producers that push from their own long-lived threads.
+ *
+ * @param <T> the type of elements held in the list
+ */
+public class ShardedLinkedList<T> implements Iterable<T> {
+
+    /**
+     * How the shards are merged into a single view.
+     */
+    public enum MergeOrder {
+        /**
+         * Shards are read round-robin, one element at a time. Pushes do not touch
+         * any shared state, but the merged view does not reflect the order in which
+         * elements of different shards were pushed.
+         */
+        INTERLEAVED,
+
+        /**
+         * Every push takes a stamp from a global sequence and shards are merged by
+         * stamp. Taking a stamp is a single atomic increment, which never retries,
+         * but it is still one shared counter, so this scales less than
+         * {@link #INTERLEAVED}.
+         */
+        SEQUENCE
+    }
+
+    /**
+     * An element stored in a shard together with its sequence stamp.
+     */
+    private record Stamped<T>(long stamp, T item) {
+    }
+
+    private final List<SinglyLinkedList<Stamped<T>>> shards; // The sub-lists
+
+    private final MergeOrder order; // How the shards are merged when read
+
+    private final AtomicLong sequence; // Source of the stamps in sequence order
+
+    /**
+     * Constructs a list with one shard per available processor, merged in
+     * sequence order.
+     */
+    public ShardedLinkedList() {
+        this(Runtime.getRuntime().availableProcessors(), MergeOrder.SEQUENCE);
+    }
+
+    /**
+     * Constructs a list with the given number of shards.
+     *
+     * @param shardCount the number of shards
+     * @param order      how the shards are merged when read
+     * @throws IllegalArgumentException if the number of shards is not positive
+     */
+    public ShardedLinkedList(int shardCount, MergeOrder order) throws IllegalArgumentException {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("The number of shards must be positive.");
+        }
+        this.shards = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new SinglyLinkedList<>());
+        }
+        this.order = Objects.requireNonNull(order);
+        this.sequence = new AtomicLong();
+    }
+
+    /**
+     * Returns the number of shards.
+     *
+     * @return the number of shards
+     */
+    public int getShardCount() {
+        return shards.size();
+    }
+
+    /**
+     * Returns how the shards are merged when read.
+     *
+     * @return the merge order
+     */
+    public MergeOrder getOrder() {
+        return order;
+    }
+
+    /**
+     * Adds a new element to the end of the calling thread's shard.
+     *
+     * @param value the element to add
+     */
+    public void push(T value) {
+        shards.get(threadShard()).push(new Stamped<>(nextStamp(), value));
+    }
+
+    /**
+     * Adds a new element to the end of the shard selected by the hash of a key.
+     * Elements pushed with equal keys keep their relative order.
+     *
+     * @param key   the key selecting the shard
+     * @param value the element to add
+     */
+    public void push(Object key, T value) {
+        shards.get(Math.floorMod(Objects.hashCode(key), shards.size())).push(new Stamped<>(nextStamp(), value));
+    }
+
+    /**
+     * Inserts a new element after the first occurrence of a specified element in
+     * the merged view. The new element is stored in the same shard and takes the
+     * stamp of the element it follows, so that it is read right after it. A null
+     * element is never found as the element to insert after.
+     *
+     * @param value the new element to insert
+     * @param after the element after which the new element should be inserted
+     * @throws NoSuchElementException if the element 'after' is not found
+     */
+    public void insertAfter(T value, T after) throws NoSuchElementException {
+        if (after != null) {
+            while (true) {
+                MergedIterator merged = find(after);
+                if (merged == null) {
+                    break;
+                }
+                try {
+                    Stamped<T> found = merged.lastReturned();
+                    shards.get(merged.lastShard()).insertAfter(new Stamped<>(found.stamp(), value), found);
+                    return;
+                } catch (NoSuchElementException e) {
+                    // The element was removed after it was found, look again
+                }
+            }
+        }
+        throw new NoSuchElementException("The specified element is not present in the list.");
+    }
+
+    /**
+     * Removes and returns the last element of the calling thread's shard, or of
+     * the next non-empty shard if that one is empty.
+     *
+     * @return the removed element
+     * @throws IllegalStateException if every shard is empty
+     */
+    public T pop() throws IllegalStateException {
+        int first = threadShard();
+        for (int i = 0; i < shards.size(); i++) {
+            SinglyLinkedList<Stamped<T>> shard = shards.get((first + i) % shards.size());
+            try {
+                return shard.pop().item();
+            } catch (IllegalStateException e) {
+                // The shard is empty, try the next one
+            }
+        }
+        throw new IllegalStateException("Cannot pop from an empty list.");
+    }
+
+    /**
+     * Removes the first occurrence of the specified element in the merged view.
+     *
+     * @param value the element to remove, may be null
+     * @return true if an element was removed, false if it is not in the list
+     */
+    public boolean remove(T value) {
+        while (true) {
+            MergedIterator merged = find(value);
+            if (merged == null) {
+                return false;
+            }
+            if (shards.get(merged.lastShard()).remove(merged.lastReturned())) {
+                return true;
+            }
+            // The element was removed after it was found, look again
+        }
+    }
+
+    /**
+     * Removes every occurrence of the specified elements from every shard.
+     *
+     * @param values the elements to remove, may contain null
+     * @return the number of removed elements
+     */
+    public int removeAll(Collection<? extends T> values) {
+        Set<T> set = new HashSet<>(values);
+        return set.isEmpty() ? 0 : removeIf(set::contains, item -> {
+        });
+    }
+
+    /**
+     * Removes every element matching the specified predicate from every shard,
+     * one shard after the other.
+     *
+     * @param filter    the predicate selecting the elements to remove
+     * @param onRemoved the action called with every removed element
+     * @return the number of removed elements
+     */
+    public int removeIf(Predicate<? super T> filter, Consumer<? super T> onRemoved) {
+        Objects.requireNonNull(filter);
+        Objects.requireNonNull(onRemoved);
+        int removed = 0;
+        for (SinglyLinkedList<Stamped<T>> shard : shards) {
+            removed += shard.removeIf(stamped -> filter.test(stamped.item()),
+                    stamped -> onRemoved.accept(stamped.item()));
+        }
+        return removed;
+    }
+
+    /**
+     * Retrieves all elements of the merged view.
+     *
+     * @return a list containing all elements in merge order
+     */
+    public List<T> getAll() {
+        List<T> items = new ArrayList<>();
+        forEach(items::add);
+        return items;
+    }
+
+    /**
+     * Returns a weakly consistent iterator over the merged view of the shards.
+     *
+     * @return an iterator over the elements in merge order
+     */
+    @Override
+    public Iterator<T> iterator() {
+        MergedIterator merged = new MergedIterator();
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return merged.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return merged.next().item();
+            }
+        };
+    }
+
+    /**
+     * Checks if the list is empty.
+     *
+     * @return true if every shard is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        for (SinglyLinkedList<Stamped<T>> shard : shards) {
+            if (!shard.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of elements in the list. The sizes of the shards are
+     * read one after the other, so the result is not a snapshot under concurrent
+     * modifications.
+     *
+     * @return the number of elements in the list
+     */
+    public int size() {
+        int size = 0;
+        for (SinglyLinkedList<Stamped<T>> shard : shards) {
+            size += shard.size();
+        }
+        return size;
+    }
+
+    /**
+     * Looks for the first occurrence of an element in the merged view.
+     *
+     * @param value the element to look for, may be null
+     * @return the merged iterator positioned right after the element, or null if
+     *         it is not found
+     */
+    private MergedIterator find(Object value) {
+        MergedIterator merged = new MergedIterator();
+        while (merged.hasNext()) {
+            if (Objects.equals(merged.next().item(), value)) {
+                return merged;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the shard of the calling thread.
+     */
+    private int threadShard() {
+        return Math.floorMod(Long.hashCode(Thread.currentThread().getId()), shards.size());
+    }
+
+    /**
+     * Returns the stamp of a new element.
+     */
+    private long nextStamp() {
+        return order == MergeOrder.SEQUENCE ? sequence.getAndIncrement() : 0;
+    }
+
+    /**
+     * Iterator merging the iterators of all shards in merge order and tracking
+     * the shard of the last returned element.
+     */
+    private class MergedIterator implements Iterator<Stamped<T>> {
+        private final List<Iterator<Stamped<T>>> iterators = new ArrayList<>(); // One per shard
+
+        private final List<Stamped<T>> heads = new ArrayList<>(); // Next element of each shard, or null
+
+        private int cursor; // Shard to read from next in interleaved order
+
+        private int last = -1; // Shard of the last returned element
+
+        private Stamped<T> lastReturned; // Last returned element
+
+        /**
+         * Starts iterating over every shard.
+         */
+        MergedIterator() {
+            for (SinglyLinkedList<Stamped<T>> shard : shards) {
+                Iterator<Stamped<T>> iterator = shard.iterator();
+                iterators.add(iterator);
+                heads.add(iterator.hasNext() ? iterator.next() : null);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            for (Stamped<T> head : heads) {
+                if (head != null) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Stamped<T> next() {
+            int selected = -1;
+            if (order == MergeOrder.SEQUENCE) {
+                // Take the head with the lowest stamp, the lowest shard on ties
+                for (int i = 0; i < heads.size(); i++) {
+                    Stamped<T> head = heads.get(i);
+                    if (head != null && (selected < 0 || head.stamp() < heads.get(selected).stamp())) {
+                        selected = i;
+                    }
+                }
+            } else {
+                // Take the next non-exhausted shard in round-robin order
+                for (int i = 0; i < heads.size() && selected < 0; i++) {
+                    int shard = (cursor + i) % heads.size();
+                    if (heads.get(shard) != null) {
+                        selected = shard;
+                    }
+                }
+                cursor = selected + 1;
+            }
+            if (selected < 0) {
+                throw new NoSuchElementException();
+            }
+
+            Stamped<T> result = heads.get(selected);
+            Iterator<Stamped<T>> iterator = iterators.get(selected);
+            heads.set(selected, iterator.hasNext() ? iterator.next() : null);
+            last = selected;
+            lastReturned = result;
+            return result;
+        }
+
+        /**
+         * Returns the shard of the last returned element.
+         *
+         * @return the shard index
+         */
+        int lastShard() {
+            return last;
+        }
+
+        /**
+         * Returns the last returned element.
+         *
+         * @return the element with its stamp
+         */
+        Stamped<T> lastReturned() {
+            return lastReturned;
+        }
+    }
+}
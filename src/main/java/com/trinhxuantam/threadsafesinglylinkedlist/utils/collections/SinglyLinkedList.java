@@ -1,10 +1,18 @@
 package com.trinhxuantam.threadsafesinglylinkedlist.utils.collections;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicMarkableReference;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * This class implements a thread-safe singly linked list using atomic
@@ -14,27 +22,36 @@ import java.util.concurrent.atomic.AtomicReference;
  * list is updated
  * atomically and consistently, even when multiple threads are adding or
  * removing elements.
+ * <p>
+ * Removal happens in two steps: a node is first marked as removed, which
+ * freezes its next reference so that nothing can be linked after it anymore,
+ * and is then unlinked from its predecessor. Traversals skip marked nodes and
+ * unlink them when they can, so a removal interrupted between the two steps is
+ * completed by the next thread walking past it. The size counts the nodes that
+ * are linked and not marked.
  *
  * @param <T> the type of elements held in the list
  */
-public class SinglyLinkedList<T> {
+public class SinglyLinkedList<T> implements ConcurrentList<T> {
 
     /**
      * Inner class to represent a node in the linked list.
      * Each node holds an item of type T and a reference to the next node in the
      * list,
-     * wrapped in an AtomicReference for thread-safe updates.
+     * wrapped in an AtomicMarkableReference for thread-safe updates. The mark is
+     * set once the node is removed: its next reference is frozen from then on and
+     * the node is unlinked by whichever thread walks past it first.
      */
     private class Node {
         private T item; // The item contained in the node
-        private AtomicReference<Node> next; // Atomic reference to the next node
+        private AtomicMarkableReference<Node> next; // Atomic reference to the next node, marked once removed
 
         /**
          * Default constructor for creating a head node with no item.
          */
         public Node() {
             this.item = null;
-            this.next = new AtomicReference<>(null);
+            this.next = new AtomicMarkableReference<>(null, false);
         }
 
         /**
@@ -44,7 +61,7 @@ public class SinglyLinkedList<T> {
          */
         public Node(T item) {
             this.item = item;
-            this.next = new AtomicReference<>(null);
+            this.next = new AtomicMarkableReference<>(null, false);
         }
 
         /**
@@ -62,7 +79,27 @@ public class SinglyLinkedList<T> {
          * @return the next node, or null if this is the last node
          */
         public Node getNext() {
-            return next.get();
+            return next.getReference();
+        }
+
+        /**
+         * Returns the next node in the list and whether this node is removed,
+         * read together atomically.
+         * 
+         * @param removed a one-element array receiving whether this node is removed
+         * @return the next node, or null if this is the last node
+         */
+        public Node getNext(boolean[] removed) {
+            return next.get(removed);
+        }
+
+        /**
+         * Returns whether this node has been removed from the list.
+         * 
+         * @return true if this node is removed, false otherwise
+         */
+        public boolean isRemoved() {
+            return next.isMarked();
         }
 
         /**
@@ -71,11 +108,12 @@ public class SinglyLinkedList<T> {
          * @param nextNode the new node to link as the next node
          */
         public void setNext(Node nextNode) {
-            next.set(nextNode);
+            next.set(nextNode, false);
         }
 
         /**
-         * Atomically sets the next node if the current next node is as expected.
+         * Atomically sets the next node if the current next node is as expected
+         * and this node is not removed.
          * This method is crucial for preventing race conditions in a concurrent
          * environment.
          * 
@@ -84,7 +122,18 @@ public class SinglyLinkedList<T> {
          * @return true if successful, false otherwise
          */
         public boolean compareAndSetNext(Node expect, Node update) {
-            return next.compareAndSet(expect, update);
+            return next.compareAndSet(expect, update, false, false);
+        }
+
+        /**
+         * Atomically marks this node as removed if its next node is as expected and
+         * it is not removed yet. Only one thread can succeed for a given node.
+         * 
+         * @param expect the expected current next node
+         * @return true if this call removed the node, false otherwise
+         */
+        public boolean markRemoved(Node expect) {
+            return next.compareAndSet(expect, expect, false, true);
         }
     }
 
@@ -111,21 +160,71 @@ public class SinglyLinkedList<T> {
      * 
      * @return a list containing all elements in the list from head to tail
      */
+    @Override
     public List<T> getAll() {
         List<T> items = new ArrayList<>();
-        Node current = head.getNext();
-        while (current != null) {
+        for (Node current = firstLive(head.getNext()); current != null; current = firstLive(current.getNext())) {
             items.add(current.getItem());
-            current = current.getNext();
         }
         return items;
     }
 
+    /**
+     * Returns an iterator over the elements of the list from head to tail.
+     * The iterator traverses the live nodes lazily without copying them, so it is
+     * weakly consistent: it never throws because of concurrent modifications and
+     * may or may not reflect changes made after it was created.
+     * 
+     * @return an iterator over the elements of the list
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Itr();
+    }
+
+    /**
+     * Weakly consistent iterator following the next references of the nodes.
+     */
+    private class Itr implements Iterator<T> {
+        private Node next = firstLive(head.getNext()); // The node whose item is returned next
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public T next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            T item = next.getItem();
+            next = firstLive(next.getNext());
+            return item;
+        }
+    }
+
+    /**
+     * Returns the given node or the first node after it that is not removed.
+     * The next reference of a removed node is frozen, so following it always
+     * leads back to the nodes that were after it when it was removed.
+     * 
+     * @param node the node to start from
+     * @return the first live node, or null if there is none
+     */
+    private Node firstLive(Node node) {
+        while (node != null && node.isRemoved()) {
+            node = node.getNext();
+        }
+        return node;
+    }
+
     /**
      * Checks if the list is empty.
      * 
      * @return true if the list is empty, false otherwise
      */
+    @Override
     public boolean isEmpty() {
         return size.get() == 0;
     }
@@ -135,6 +234,7 @@ public class SinglyLinkedList<T> {
      * 
      * @return the number of elements in the list
      */
+    @Override
     public int size() {
         return size.get();
     }
@@ -148,13 +248,18 @@ public class SinglyLinkedList<T> {
      * 
      * @param value the element to add
      */
+    @Override
     public void push(T value) {
         Node newNode = new Node(value);
         while (true) {
             Node curTail = tail.get();
-            Node tailNext = curTail.getNext();
+            boolean[] removed = { false };
+            Node tailNext = curTail.getNext(removed);
             if (curTail == tail.get()) {
-                if (tailNext != null) {
+                if (removed[0]) {
+                    // The tail node was removed, nothing can be linked after it anymore
+                    tail.compareAndSet(curTail, findLast());
+                } else if (tailNext != null) {
                     // Advance the tail if it's behind, not pointing to the actual last node
                     tail.compareAndSet(curTail, tailNext);
                 } else {
@@ -181,27 +286,28 @@ public class SinglyLinkedList<T> {
      * @param after the element after which the new element should be inserted
      * @throws NoSuchElementException if the element 'after' is not found
      */
+    @Override
     public void insertAfter(T value, T after) throws NoSuchElementException {
         Node newNode = new Node(value);
         Node current = head.getNext();
 
         // Iterate through the list to find the 'after' element
         while (current != null) {
+            boolean[] removed = { false };
+            Node nextNode = current.getNext(removed);
             // Check if the current node's item matches the 'after' item
-            if (current.getItem() != null && current.getItem().equals(after)) {
-                // Attempt to insert the new node after the current node
-                while (true) {
-                    Node nextNode = current.getNext(); // Get the next node
-                    newNode.setNext(nextNode); // Point the new node to the current node's next node
-                    // Try to set the current node's next to the new node atomically
-                    if (current.compareAndSetNext(nextNode, newNode)) {
-                        size.incrementAndGet(); // Increment the size of the list
-                        return; // Return if insertion is successful
-                    }
+            if (!removed[0] && current.getItem() != null && current.getItem().equals(after)) {
+                newNode.setNext(nextNode); // Point the new node to the current node's next node
+                // Try to set the current node's next to the new node atomically
+                if (current.compareAndSetNext(nextNode, newNode)) {
+                    size.incrementAndGet(); // Increment the size of the list
+                    return; // Return if insertion is successful
                 }
+                // The next node changed or the current node was removed, check it again
+                continue;
             }
 
-            current = current.getNext();
+            current = nextNode;
         }
 
         // Throw if the 'after' element is not found in the list
@@ -217,33 +323,183 @@ public class SinglyLinkedList<T> {
      * @return the last element of the list
      * @throws IllegalStateException if the list is empty
      */
+    @Override
     public T pop() throws IllegalStateException {
         while (true) {
+            Node secondLast = head; // Start with the dummy head node
             Node last = head.getNext(); // Start with the first actual element
-            if (last == null) {
-                // If there are no elements, throw exception
-                throw new IllegalStateException("Cannot pop from an empty list.");
+            boolean interrupted = false;
+            // Iterate to find the last and second-to-last live elements
+            while (last != null) {
+                boolean[] removed = { false };
+                Node next = last.getNext(removed);
+                if (removed[0]) {
+                    // Unlink the removed node on the way, restart if the list changed
+                    if (!secondLast.compareAndSetNext(last, next)) {
+                        interrupted = true;
+                        break;
+                    }
+                    last = next;
+                } else if (next == null) {
+                    break;
+                } else {
+                    secondLast = last; // Keep track of the second-to-last element
+                    last = next; // Move to the next node
+                }
             }
 
-            Node secondLast = head; // Start with the dummy head node
-            // Iterate to find the last and second-to-last elements
-            while (last != null && last.getNext() != null) {
-                secondLast = last; // Keep track of the second-to-last element
-                last = last.getNext(); // Move to the next node
+            if (interrupted) {
+                continue;
             }
-
             if (last == null) {
-                // If the last node is null, retry the operation
+                if (secondLast == head) {
+                    // If there are no elements, throw exception
+                    throw new IllegalStateException("Cannot pop from an empty list.");
+                }
+                // The last node was removed while walking to it, retry the operation
                 continue;
             }
 
-            // Try to detach the last node, else retry
-            if (secondLast.compareAndSetNext(last, null)) {
-                // If successful, check if we need to reset the tail
-                tail.compareAndSet(last, secondLast);
+            // Try to remove the last node, else retry
+            if (last.markRemoved(null)) {
                 size.decrementAndGet(); // Decrement the size of the list
+                // Detach the node and reset the tail, a later traversal does it otherwise
+                if (secondLast.compareAndSetNext(last, null)) {
+                    tail.compareAndSet(last, secondLast);
+                }
                 return last.getItem(); // Return the item of the last node
             }
         }
     }
+
+    /**
+     * Removes the first occurrence of the specified element from the list.
+     * 
+     * @param value the element to remove, may be null
+     * @return true if an element was removed, false if it is not in the list
+     */
+    @Override
+    public boolean remove(T value) {
+        return removeMatching(item -> Objects.equals(item, value), 1, item -> {
+        }) == 1;
+    }
+
+    /**
+     * Removes every occurrence of the specified elements from the list in a
+     * single traversal.
+     * 
+     * @param values the elements to remove, may contain null
+     * @return the number of removed elements
+     */
+    @Override
+    public int removeAll(Collection<? extends T> values) {
+        // Copy into a hash set: constant time lookups that also accept null
+        Set<T> set = new HashSet<>(values);
+        return set.isEmpty() ? 0 : removeMatching(set::contains, Integer.MAX_VALUE, item -> {
+        });
+    }
+
+    /**
+     * Removes every element matching the specified predicate from the list in a
+     * single traversal. The predicate may be called more than once for an element
+     * when the list is modified concurrently.
+     * 
+     * @param filter    the predicate selecting the elements to remove
+     * @param onRemoved the action called with every removed element
+     * @return the number of removed elements
+     */
+    @Override
+    public int removeIf(Predicate<? super T> filter, Consumer<? super T> onRemoved) {
+        Objects.requireNonNull(filter);
+        Objects.requireNonNull(onRemoved);
+        return removeMatching(filter, Integer.MAX_VALUE, onRemoved);
+    }
+
+    /**
+     * Removes up to a given number of elements matching a predicate, from head to
+     * tail. Consecutive nodes to remove are marked one by one and then unlinked
+     * together by a single compare-and-set on the next reference of the live node
+     * preceding them. Nodes found already marked join the run, so removals left
+     * half done by other threads are completed along the way. When the unlinking
+     * fails because the predecessor changed, the traversal restarts from the head
+     * to unlink the marked nodes; the count of removed elements is kept.
+     * 
+     * @param filter    the predicate selecting the elements to remove
+     * @param limit     the maximum number of elements to remove
+     * @param onRemoved the action called with every removed element
+     * @return the number of elements removed by this call
+     */
+    private int removeMatching(Predicate<? super T> filter, int limit, Consumer<? super T> onRemoved) {
+        int removedCount = 0;
+        retry: while (true) {
+            Node pred = head; // The last live node seen
+            Node runStart = head.getNext(); // The first node after it
+            while (true) {
+                // Mark the run of nodes to remove following the predecessor
+                Node runEnd = runStart;
+                while (runEnd != null) {
+                    boolean[] removed = { false };
+                    Node next = runEnd.getNext(removed);
+                    if (!removed[0]) {
+                        if (removedCount >= limit || !filter.test(runEnd.getItem())) {
+                            break;
+                        }
+                        if (!runEnd.markRemoved(next)) {
+                            // A node was inserted after it or it was removed concurrently, check it again
+                            continue;
+                        }
+                        removedCount++;
+                        size.decrementAndGet();
+                        onRemoved.accept(runEnd.getItem());
+                    }
+                    runEnd = next;
+                }
+
+                // Unlink the whole run at once
+                if (runEnd != runStart) {
+                    if (!pred.compareAndSetNext(runStart, runEnd)) {
+                        continue retry;
+                    }
+                    if (runEnd == null) {
+                        // The run ended the list, move the tail back if it pointed into it
+                        Node curTail = tail.get();
+                        if (curTail.isRemoved()) {
+                            tail.compareAndSet(curTail, pred);
+                        }
+                    }
+                }
+
+                if (runEnd == null || removedCount >= limit) {
+                    return removedCount;
+                }
+                pred = runEnd;
+                runStart = runEnd.getNext();
+            }
+        }
+    }
+
+    /**
+     * Finds the last live node, unlinking the removed nodes on the way.
+     * 
+     * @return the last live node, or the head if the list is empty
+     */
+    private Node findLast() {
+        retry: while (true) {
+            Node pred = head;
+            Node current = head.getNext();
+            while (current != null) {
+                boolean[] removed = { false };
+                Node next = current.getNext(removed);
+                if (removed[0]) {
+                    if (!pred.compareAndSetNext(current, next)) {
+                        continue retry;
+                    }
+                } else {
+                    pred = current;
+                }
+                current = next;
+            }
+            return pred;
+        }
+    }
 }
@@ -0,0 +1,362 @@
+package com.trinhxuantam.threadsafesinglylinkedlist.utils.collections;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * This class implements a thread-safe singly linked list guarded by a single
+ * {@link StampedLock}. Writers take the write lock. Readers first traverse the
+ * list without locking under an optimistic read stamp and only take the read
+ * lock when a writer invalidated the stamp in the meantime, so reads never
+ * block each other and rarely block writers.
+ * <p>
+ * An optimistic traversal may observe the list while a writer modifies it. The
+ * nodes are never linked backwards, so such a traversal always ends, and its
+ * result is discarded when the stamp does not validate. The stamp is checked
+ * every {@value #VALIDATE_INTERVAL} nodes to give up early on long lists.
+ *
+ * @param <T> the type of elements held in the list
+ */
+public class StampedLockLinkedList<T> implements ConcurrentList<T> {
+
+    private static final int VALIDATE_INTERVAL = 256; // Nodes traversed between two validations of the stamp
+
+    /**
+     * Inner class to represent a node in the linked list.
+     * The next reference is only changed while holding the write lock.
+     */
+    private class Node {
+        private final T item; // The item contained in the node
+        private Node next; // The next node, null if this is the last node
+
+        /**
+         * Constructs a new node with the specified item.
+         *
+         * @param item the item to store in this node
+         */
+        public Node(T item) {
+            this.item = item;
+        }
+    }
+
+    private final StampedLock lock = new StampedLock(); // Guards the nodes, the tail and the size
+
+    private final Node head = new Node(null); // Dummy head node of the list
+
+    private Node tail = head; // The last node of the list
+
+    private int size; // Number of elements in the list
+
+    /**
+     * Retrieves all elements from the list in sequence, optimistically first.
+     *
+     * @return a list containing all elements in the list from head to tail
+     */
+    @Override
+    public List<T> getAll() {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            List<T> items = copy(stamp);
+            if (items != null) {
+                return items;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return copy(0);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Copies the items of the list.
+     *
+     * @param optimisticStamp the optimistic read stamp to validate, or 0 when
+     *                        holding a lock
+     * @return the items, or null if the stamp was invalidated
+     */
+    private List<T> copy(long optimisticStamp) {
+        List<T> items = new ArrayList<>();
+        int traversed = 0;
+        for (Node current = head.next; current != null; current = current.next) {
+            items.add(current.item);
+            if (optimisticStamp != 0 && ++traversed % VALIDATE_INTERVAL == 0 && !lock.validate(optimisticStamp)) {
+                return null;
+            }
+        }
+        if (optimisticStamp != 0 && !lock.validate(optimisticStamp)) {
+            return null;
+        }
+        return items;
+    }
+
+    /**
+     * Returns an iterator over the elements of the list from head to tail. The
+     * iterator traverses the nodes lazily without copying them, reading each next
+     * reference under an optimistic read stamp and under the read lock only when
+     * a writer invalidated the stamp. It is weakly consistent: it never throws
+     * because of concurrent modifications and may or may not reflect changes made
+     * after it was created.
+     *
+     * @return an iterator over the elements of the list
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Itr();
+    }
+
+    /**
+     * Weakly consistent iterator following the next references of the nodes. The
+     * next reference of a removed node is left unchanged, so following it leads
+     * back to the nodes that were after it when it was removed.
+     */
+    private class Itr implements Iterator<T> {
+        private Node next = successor(head); // The node whose item is returned next
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public T next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            T item = next.item;
+            next = successor(next);
+            return item;
+        }
+    }
+
+    /**
+     * Reads the next reference of a node, optimistically first.
+     *
+     * @param node the node whose successor to read
+     * @return the next node, or null if the node is the last one
+     */
+    private Node successor(Node node) {
+        long stamp = lock.tryOptimisticRead();
+        Node next = node.next;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                next = node.next;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Checks if the list is empty.
+     *
+     * @return true if the list is empty, false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @return the number of elements in the list
+     */
+    @Override
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        int current = size;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                current = size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Adds a new element to the end of the list.
+     *
+     * @param value the element to add
+     */
+    @Override
+    public void push(T value) {
+        Node newNode = new Node(value);
+        long stamp = lock.writeLock();
+        try {
+            tail.next = newNode;
+            tail = newNode;
+            size++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Inserts a new element after a specified existing element. The element is
+     * searched under the read lock, which is then upgraded to the write lock when
+     * no other reader holds it.
+     *
+     * @param value the new element to insert
+     * @param after the element after which the new element should be inserted
+     * @throws NoSuchElementException if the element 'after' is not found
+     */
+    @Override
+    public void insertAfter(T value, T after) throws NoSuchElementException {
+        long stamp = lock.readLock();
+        try {
+            Node current = find(after);
+            long writeStamp = lock.tryConvertToWriteLock(stamp);
+            if (writeStamp == 0) {
+                // Other readers hold the lock, search again under the write lock
+                lock.unlockRead(stamp);
+                stamp = lock.writeLock();
+                current = find(after);
+            } else {
+                stamp = writeStamp;
+            }
+            Node newNode = new Node(value);
+            newNode.next = current.next;
+            current.next = newNode;
+            if (tail == current) {
+                tail = newNode;
+            }
+            size++;
+        } finally {
+            lock.unlock(stamp);
+        }
+    }
+
+    /**
+     * Finds the first node holding the specified element, while holding a lock.
+     *
+     * @param item the element to find
+     * @return the first node holding the element
+     * @throws NoSuchElementException if the element is not found
+     */
+    private Node find(T item) throws NoSuchElementException {
+        for (Node current = head.next; current != null; current = current.next) {
+            if (current.item != null && current.item.equals(item)) {
+                return current;
+            }
+        }
+        throw new NoSuchElementException("The specified element is not present in the list.");
+    }
+
+    /**
+     * Removes and returns the last element from the list.
+     *
+     * @return the last element of the list
+     * @throws IllegalStateException if the list is empty
+     */
+    @Override
+    public T pop() throws IllegalStateException {
+        long stamp = lock.writeLock();
+        try {
+            if (size == 0) {
+                throw new IllegalStateException("Cannot pop from an empty list.");
+            }
+            Node secondLast = head;
+            while (secondLast.next != tail) {
+                secondLast = secondLast.next;
+            }
+            T item = tail.item;
+            secondLast.next = null;
+            tail = secondLast;
+            size--;
+            return item;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from the list.
+     *
+     * @param value the element to remove, may be null
+     * @return true if an element was removed, false if it is not in the list
+     */
+    @Override
+    public boolean remove(T value) {
+        return removeMatching(item -> Objects.equals(item, value), 1, item -> {
+        }) == 1;
+    }
+
+    /**
+     * Removes every occurrence of the specified elements from the list in a
+     * single traversal.
+     *
+     * @param values the elements to remove, may contain null
+     * @return the number of removed elements
+     */
+    @Override
+    public int removeAll(Collection<? extends T> values) {
+        Set<T> set = new HashSet<>(values);
+        return set.isEmpty() ? 0 : removeMatching(set::contains, Integer.MAX_VALUE, item -> {
+        });
+    }
+
+    /**
+     * Removes every element matching the specified predicate from the list in a
+     * single traversal.
+     *
+     * @param filter    the predicate selecting the elements to remove
+     * @param onRemoved the action called with every removed element
+     * @return the number of removed elements
+     */
+    @Override
+    public int removeIf(Predicate<? super T> filter, Consumer<? super T> onRemoved) {
+        Objects.requireNonNull(filter);
+        Objects.requireNonNull(onRemoved);
+        return removeMatching(filter, Integer.MAX_VALUE, onRemoved);
+    }
+
+    /**
+     * Removes up to a given number of elements matching a predicate, from head to
+     * tail, under the write lock.
+     *
+     * @param filter    the predicate selecting the elements to remove
+     * @param limit     the maximum number of elements to remove
+     * @param onRemoved the action called with every removed element
+     * @return the number of removed elements
+     */
+    private int removeMatching(Predicate<? super T> filter, int limit, Consumer<? super T> onRemoved) {
+        int removedCount = 0;
+        long stamp = lock.writeLock();
+        try {
+            Node pred = head;
+            while (pred.next != null && removedCount < limit) {
+                Node current = pred.next;
+                if (filter.test(current.item)) {
+                    pred.next = current.next;
+                    if (tail == current) {
+                        tail = pred;
+                    }
+                    size--;
+                    removedCount++;
+                    onRemoved.accept(current.item);
+                } else {
+                    pred = current;
+                }
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        return removedCount;
+    }
+}
@@ -0,0 +1,102 @@
+package com.trinhxuantam.threadsafesinglylinkedlist.utils.protocol;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Writes bytes and varints into a heap byte buffer and drains it to an output
+ * stream whenever it runs out of space, so that arbitrarily long responses are
+ * produced with a fixed amount of memory. The backing array of the buffer is
+ * handed to the stream as is, without an intermediate copy.
+ * <p>
+ * The writer is meant to be called from traversal callbacks that cannot throw
+ * checked exceptions, hence I/O failures are rethrown as
+ * {@link UncheckedIOException}.
+ */
+public class BufferedStreamWriter {
+
+    private final ByteBuffer buffer; // The buffer holding the pending bytes
+
+    private final OutputStream out; // The stream receiving the bytes
+
+    /**
+     * Creates a writer draining the given buffer to the given stream.
+     *
+     * @param buffer the buffer to use, cleared before use; must be backed by an
+     *               accessible array and hold at least {@link VarInts#MAX_BYTES}
+     *               bytes
+     * @param out    the stream receiving the bytes
+     * @throws IllegalArgumentException if the buffer has no accessible array or
+     *                                  is too small
+     */
+    public BufferedStreamWriter(ByteBuffer buffer, OutputStream out) throws IllegalArgumentException {
+        if (!buffer.hasArray()) {
+            throw new IllegalArgumentException("The buffer must be backed by an accessible array.");
+        }
+        if (buffer.capacity() < VarInts.MAX_BYTES) {
+            throw new IllegalArgumentException("The buffer must hold at least " + VarInts.MAX_BYTES + " bytes.");
+        }
+        this.buffer = buffer;
+        this.out = out;
+        buffer.clear();
+    }
+
+    /**
+     * Writes a single byte.
+     *
+     * @param value the byte to write
+     * @throws UncheckedIOException if draining the buffer fails
+     */
+    public void writeByte(int value) throws UncheckedIOException {
+        ensureRemaining(1);
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Writes an unsigned varint.
+     *
+     * @param value the value, interpreted as unsigned
+     * @throws UncheckedIOException if draining the buffer fails
+     */
+    public void writeUnsigned(long value) throws UncheckedIOException {
+        ensureRemaining(VarInts.MAX_BYTES);
+        VarInts.writeUnsigned(buffer, value);
+    }
+
+    /**
+     * Writes a nullable element as a tagged varint.
+     *
+     * @param element the element, may be null
+     * @throws UncheckedIOException if draining the buffer fails
+     */
+    public void writeElement(Integer element) throws UncheckedIOException {
+        ensureRemaining(VarInts.MAX_BYTES);
+        VarInts.writeElement(buffer, element);
+    }
+
+    /**
+     * Drains all pending bytes to the stream.
+     *
+     * @throws UncheckedIOException if writing to the stream fails
+     */
+    public void flush() throws UncheckedIOException {
+        try {
+            out.write(buffer.array(), buffer.arrayOffset(), buffer.position());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Drains the buffer if fewer than the given number of bytes remain.
+     */
+    private void ensureRemaining(int bytes) {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+}
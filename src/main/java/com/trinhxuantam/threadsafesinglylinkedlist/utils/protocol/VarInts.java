@@ -0,0 +1,126 @@
+package com.trinhxuantam.threadsafesinglylinkedlist.utils.protocol;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Variable-length integer encoding used by the binary list protocol.
+ * <p>
+ * Unsigned values are written as base-128 varints, least significant group
+ * first, with the high bit of each byte set when more bytes follow. Nullable
+ * {@code Integer} elements are first mapped to a non-negative tag: {@code 0}
+ * is reserved as an end marker, {@code 1} stands for {@code null} and any other
+ * value is the zigzag encoding of the element plus two, so that small negative
+ * numbers stay short.
+ */
+public final class VarInts {
+
+    /**
+     * The maximum number of bytes of an encoded varint.
+     */
+    public static final int MAX_BYTES = 10;
+
+    /**
+     * The tag marking the end of a sequence of elements.
+     */
+    public static final long END = 0;
+
+    private static final long NULL = 1; // The tag of a null element
+
+    private VarInts() {
+    }
+
+    /**
+     * Writes an unsigned varint to the buffer.
+     *
+     * @param buffer the buffer to write to, with at least {@link #MAX_BYTES}
+     *               remaining
+     * @param value  the value, interpreted as unsigned
+     */
+    public static void writeUnsigned(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Reads an unsigned varint from the buffer.
+     *
+     * @param buffer the buffer to read from
+     * @return the value, interpreted as unsigned
+     * @throws IllegalArgumentException if the buffer ends in the middle of the
+     *                                  varint or the varint is longer than
+     *                                  {@link #MAX_BYTES}
+     */
+    public static long readUnsigned(ByteBuffer buffer) throws IllegalArgumentException {
+        long value = 0;
+        for (int shift = 0; shift < 7 * MAX_BYTES; shift += 7) {
+            if (!buffer.hasRemaining()) {
+                throw new IllegalArgumentException("Truncated varint.");
+            }
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Varint is longer than " + MAX_BYTES + " bytes.");
+    }
+
+    /**
+     * Maps a nullable element to its tag.
+     *
+     * @param element the element, may be null
+     * @return the tag of the element, never {@link #END}
+     */
+    public static long tag(Integer element) {
+        if (element == null) {
+            return NULL;
+        }
+        long value = element;
+        return ((value << 1) ^ (value >> 63)) + 2;
+    }
+
+    /**
+     * Maps a tag back to its element.
+     *
+     * @param tag the tag, as returned by {@link #tag(Integer)}
+     * @return the element, may be null
+     * @throws IllegalArgumentException if the tag is the end marker or out of the
+     *                                  range of an int
+     */
+    public static Integer untag(long tag) throws IllegalArgumentException {
+        if (tag == NULL) {
+            return null;
+        }
+        long zigzag = tag - 2;
+        if (tag == END || zigzag > 0xFFFFFFFFL || zigzag < 0) {
+            throw new IllegalArgumentException("Invalid element tag: " + Long.toUnsignedString(tag));
+        }
+        return (int) ((zigzag >>> 1) ^ -(zigzag & 1));
+    }
+
+    /**
+     * Writes a nullable element as a tagged varint.
+     *
+     * @param buffer  the buffer to write to, with at least {@link #MAX_BYTES}
+     *                remaining
+     * @param element the element, may be null
+     */
+    public static void writeElement(ByteBuffer buffer, Integer element) {
+        writeUnsigned(buffer, tag(element));
+    }
+
+    /**
+     * Reads a nullable element written by {@link #writeElement}.
+     *
+     * @param buffer the buffer to read from
+     * @return the element, may be null
+     * @throws IllegalArgumentException if the varint is malformed or is not a
+     *                                  valid element tag
+     */
+    public static Integer readElement(ByteBuffer buffer) throws IllegalArgumentException {
+        return untag(readUnsigned(buffer));
+    }
+}
@@ -0,0 +1,84 @@
+package com.trinhxuantam.threadsafesinglylinkedlist.utils.query;
+
+import java.util.Locale;
+import java.util.function.Predicate;
+
+/**
+ * Parses the element predicates of the query endpoints.
+ * <p>
+ * A predicate is a comma separated list of conditions that must all hold. A
+ * condition is either a comparison {@code <operator>:<value>}, with one of the
+ * operators {@code eq}, {@code ne}, {@code lt}, {@code le}, {@code gt} and
+ * {@code ge}, or one of the keywords {@code even} and {@code odd}. For example,
+ * {@code gt:10,lt:20,even} selects the even elements between 10 and 20. A null
+ * element never matches.
+ */
+public final class ElementPredicates {
+
+    private ElementPredicates() {
+    }
+
+    /**
+     * Parses a predicate.
+     *
+     * @param expression the predicate, see the class description
+     * @return the predicate selecting the matching elements
+     * @throws IllegalArgumentException if the expression is malformed
+     */
+    public static Predicate<Integer> parse(String expression) throws IllegalArgumentException {
+        if (expression == null || expression.isBlank()) {
+            throw new IllegalArgumentException("The predicate is empty.");
+        }
+        Predicate<Integer> predicate = element -> element != null;
+        for (String condition : expression.split(",", -1)) {
+            predicate = predicate.and(parseCondition(condition.trim().toLowerCase(Locale.ROOT)));
+        }
+        return predicate;
+    }
+
+    /**
+     * Parses a single condition, applied to non-null elements only.
+     *
+     * @param condition the condition, in lower case
+     * @return the predicate of the condition
+     * @throws IllegalArgumentException if the condition is malformed
+     */
+    private static Predicate<Integer> parseCondition(String condition) throws IllegalArgumentException {
+        switch (condition) {
+            case "even":
+                return element -> element % 2 == 0;
+            case "odd":
+                return element -> element % 2 != 0;
+            default:
+                break;
+        }
+
+        int separator = condition.indexOf(':');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Unknown condition '" + condition + "'.");
+        }
+        String operator = condition.substring(0, separator);
+        int value;
+        try {
+            value = Integer.parseInt(condition.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("The value of condition '" + condition + "' is not an integer.");
+        }
+        switch (operator) {
+            case "eq":
+                return element -> element == value;
+            case "ne":
+                return element -> element != value;
+            case "lt":
+                return element -> element < value;
+            case "le":
+                return element -> element <= value;
+            case "gt":
+                return element -> element > value;
+            case "ge":
+                return element -> element >= value;
+            default:
+                throw new IllegalArgumentException("Unknown operator '" + operator + "'.");
+        }
+    }
+}
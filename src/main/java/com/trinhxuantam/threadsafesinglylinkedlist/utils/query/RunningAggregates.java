@@ -0,0 +1,123 @@
+package com.trinhxuantam.threadsafesinglylinkedlist.utils.query;
+
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregates of a multiset of numbers, maintained incrementally as numbers are
+ * added and removed, so that queries never traverse the list they describe.
+ * <p>
+ * The sum is held in a {@link LongAdder} and the number of occurrences of
+ * every distinct value in a {@link ConcurrentSkipListMap}, which answers the
+ * minimum and the maximum from its ends and the histogram in one pass over the
+ * distinct values. Updates from concurrent threads never block each other.
+ * <p>
+ * The aggregates are updated after the list they describe, so they are exact
+ * once concurrent mutations complete. Meanwhile, a removal may be recorded
+ * before the addition it undoes; the occurrences of the value are then
+ * transiently negative and the value is ignored by the minimum, the maximum and
+ * the histogram.
+ */
+public class RunningAggregates {
+
+    private final LongAdder sum = new LongAdder(); // Sum of the values
+
+    private final ConcurrentSkipListMap<Long, Long> occurrences = new ConcurrentSkipListMap<>(); // Non-zero occurrences by value
+
+    /**
+     * Records an added value.
+     *
+     * @param value the added value
+     */
+    public void add(long value) {
+        sum.add(value);
+        occurrences.merge(value, 1L, RunningAggregates::addOccurrences);
+    }
+
+    /**
+     * Records a removed value.
+     *
+     * @param value the removed value
+     */
+    public void remove(long value) {
+        sum.add(-value);
+        occurrences.merge(value, -1L, RunningAggregates::addOccurrences);
+    }
+
+    /**
+     * Returns the sum of the values.
+     *
+     * @return the sum of the values, 0 if there are none
+     */
+    public long sum() {
+        return sum.sum();
+    }
+
+    /**
+     * Returns the smallest value.
+     *
+     * @return the smallest value, empty if there are none
+     */
+    public OptionalLong min() {
+        return first(occurrences);
+    }
+
+    /**
+     * Returns the largest value.
+     *
+     * @return the largest value, empty if there are none
+     */
+    public OptionalLong max() {
+        return first(occurrences.descendingMap());
+    }
+
+    /**
+     * Counts the values in buckets of equal width. The bucket of a value starts
+     * at the largest multiple of the width not greater than the value.
+     *
+     * @param bucketWidth the width of the buckets, positive
+     * @return the number of values of every non-empty bucket, by the start of the
+     *         bucket in ascending order
+     */
+    public SortedMap<Long, Long> histogram(long bucketWidth) {
+        SortedMap<Long, Long> buckets = new TreeMap<>();
+        for (Map.Entry<Long, Long> entry : occurrences.entrySet()) {
+            if (entry.getValue() > 0) {
+                buckets.merge(Math.floorDiv(entry.getKey(), bucketWidth) * bucketWidth, entry.getValue(), Long::sum);
+            }
+        }
+        return buckets;
+    }
+
+    /**
+     * Returns the first value of a map of occurrences that is actually present.
+     *
+     * @param values the occurrences of every value, in the order to search
+     * @return the first value with a positive number of occurrences
+     */
+    private static OptionalLong first(Map<Long, Long> values) {
+        for (Map.Entry<Long, Long> entry : values.entrySet()) {
+            if (entry.getValue() > 0) {
+                return OptionalLong.of(entry.getKey());
+            }
+        }
+        return OptionalLong.empty();
+    }
+
+    /**
+     * Adds two numbers of occurrences, removing the value from the map when they
+     * cancel out.
+     *
+     * @param current the current occurrences
+     * @param delta   the occurrences to add
+     * @return the new occurrences, or null if there are none left
+     */
+    private static Long addOccurrences(Long current, Long delta) {
+        long updated = current + delta;
+        return updated == 0 ? null : updated;
+    }
+}
@@ -0,0 +1,53 @@
+package com.trinhxuantam.threadsafesinglylinkedlist.utils.replication;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Writes and reads the elements of the list on the replication stream.
+ *
+ * @param <T> the type of elements held in the list
+ */
+public interface ElementCodec<T> {
+
+    /**
+     * Writes a nullable element.
+     *
+     * @param out     the stream to write to
+     * @param element the element, may be null
+     * @throws IOException if writing fails
+     */
+    void write(DataOutput out, T element) throws IOException;
+
+    /**
+     * Reads a nullable element written by {@link #write}.
+     *
+     * @param in the stream to read from
+     * @return the element, may be null
+     * @throws IOException if reading fails
+     */
+    T read(DataInput in) throws IOException;
+
+    /**
+     * Returns the codec of nullable integers.
+     *
+     * @return the integer codec
+     */
+    static ElementCodec<Integer> integers() {
+        return new ElementCodec<>() {
+            @Override
+            public void write(DataOutput out, Integer element) throws IOException {
+                out.writeBoolean(element != null);
+                if (element != null) {
+                    out.writeInt(element);
+                }
+            }
+
+            @Override
+            public Integer read(DataInput in) throws IOException {
+                return in.readBoolean() ? in.readInt() : null;
+            }
+        };
+    }
+}
@@ -0,0 +1,47 @@
+package com.trinhxuantam.threadsafesinglylinkedlist.utils.replication;
+
+/**
+ * A sequenced mutation of the list, as recorded in the {@link OperationLog}
+ * of the leader and replayed by the followers.
+ *
+ * @param sequence   the position of the operation in the log, starting at 1
+ * @param timeMillis the time the leader applied the operation, in milliseconds
+ *                   since the epoch
+ * @param type       the kind of mutation
+ * @param element    the pushed, inserted or removed element, null for a pop
+ * @param after      the element after which the element was inserted, null for
+ *                   other kinds
+ * @param <T>        the type of elements held in the list
+ */
+public record Operation<T>(long sequence, long timeMillis, Type type, T element, T after) {
+
+    /**
+     * The kinds of mutation that are replicated.
+     */
+    public enum Type {
+        /**
+         * An element was appended to the end of the list.
+         */
+        PUSH,
+
+        /**
+         * An element was inserted after the first occurrence of another one.
+         */
+        INSERT_AFTER,
+
+        /**
+         * The last element was removed.
+         */
+        POP,
+
+        /**
+         * The first occurrence of an element was removed.
+         */
+        REMOVE,
+
+        /**
+         * Every occurrence of an element was removed.
+         */
+        REMOVE_ALL
+    }
+}
@@ -0,0 +1,121 @@
+package com.trinhxuantam.threadsafesinglylinkedlist.utils.replication;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * In-memory log of the most recent mutations applied on the leader, from which
+ * followers catch up by sequence number.
+ * <p>
+ * Operations are numbered from 1 in the order they are appended. Only the last
+ * {@code capacity} operations are retained; a follower asking for older ones
+ * has to start over from a {@link Snapshot}.
+ * <p>
+ * The log is its own lock. The order of the log must match the order in which
+ * the operations were applied to the list, so callers apply an operation and
+ * append it while holding the monitor of the log, and take snapshots the same
+ * way.
+ *
+ * @param <T> the type of elements held in the list
+ */
+public class OperationLog<T> {
+
+    private final Operation<T>[] ring; // Retained operations, indexed by sequence modulo capacity
+
+    private final long epoch; // Identifies this log among the lives of the leader
+
+    private long lastSequence; // Sequence of the last appended operation, 0 if none
+
+    /**
+     * Constructs an empty log.
+     *
+     * @param capacity the number of operations to retain
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    @SuppressWarnings("unchecked")
+    public OperationLog(int capacity) throws IllegalArgumentException {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity of the log must be positive.");
+        }
+        this.ring = (Operation<T>[]) new Operation<?>[capacity];
+        this.epoch = ThreadLocalRandom.current().nextLong();
+    }
+
+    /**
+     * Returns the epoch of the log. Sequence numbers are only meaningful within
+     * an epoch; a leader that restarts starts a new one.
+     *
+     * @return the epoch
+     */
+    public long getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * Appends an operation, stamped with the current time, and wakes up the
+     * readers waiting for it.
+     *
+     * @param type    the kind of mutation
+     * @param element the pushed or inserted element
+     * @param after   the element after which the element was inserted
+     * @return the appended operation
+     */
+    public synchronized Operation<T> append(Operation.Type type, T element, T after) {
+        Operation<T> operation = new Operation<>(lastSequence + 1, System.currentTimeMillis(), type, element, after);
+        ring[(int) (operation.sequence() % ring.length)] = operation;
+        lastSequence = operation.sequence();
+        notifyAll();
+        return operation;
+    }
+
+    /**
+     * Returns the sequence of the last appended operation.
+     *
+     * @return the last sequence, 0 if the log is empty
+     */
+    public synchronized long lastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * Tells whether the operations following the given sequence can be read from
+     * the log.
+     *
+     * @param sequence the sequence of the last operation known to the reader
+     * @return true if every operation after the sequence is retained
+     */
+    public synchronized boolean canReadAfter(long sequence) {
+        return sequence >= 0 && sequence <= lastSequence && sequence >= lastSequence - ring.length;
+    }
+
+    /**
+     * Reads the operations following the given sequence, waiting for one to be
+     * appended if there is none yet.
+     *
+     * @param sequence      the sequence of the last operation known to the reader
+     * @param max           the maximum number of operations to return
+     * @param timeoutMillis how long to wait for a new operation
+     * @return the operations in order, empty if none was appended in time, or null
+     *         if some of them are no longer retained
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public synchronized List<Operation<T>> readAfter(long sequence, int max, long timeoutMillis)
+            throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        long remaining = timeoutMillis;
+        while (lastSequence <= sequence && remaining > 0) {
+            wait(remaining);
+            remaining = deadline - System.currentTimeMillis();
+        }
+        if (!canReadAfter(sequence)) {
+            return null;
+        }
+
+        List<Operation<T>> operations = new ArrayList<>();
+        for (long next = sequence + 1; next <= lastSequence && operations.size() < max; next++) {
+            operations.add(ring[(int) (next % ring.length)]);
+        }
+        return operations;
+    }
+}
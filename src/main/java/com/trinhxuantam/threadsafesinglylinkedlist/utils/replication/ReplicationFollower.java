@@ -0,0 +1,213 @@
+package com.trinhxuantam.threadsafesinglylinkedlist.utils.replication;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Connects to the leader, applies the snapshots and operations it streams and
+ * keeps track of how far behind the leader the local copy is. Reconnects after
+ * a delay whenever the connection is lost, resuming from the last applied
+ * operation.
+ * <p>
+ * Operations are applied by a single thread, in sequence order.
+ *
+ * @param <T> the type of elements held in the list
+ */
+public class ReplicationFollower<T> implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplicationFollower.class);
+
+    /**
+     * How far behind the leader the local copy is.
+     *
+     * @param connected       whether the follower is connected to the leader
+     * @param sequence        the sequence of the last applied operation
+     * @param leaderSequence  the last sequence of the leader known to the follower
+     * @param stalenessMillis the time elapsed since the latest state of the leader
+     *                        the local copy is known to hold, -1 if unknown
+     */
+    public record Status(boolean connected, long sequence, long leaderSequence, long stalenessMillis) {
+    }
+
+    private final String host; // Host of the leader
+
+    private final int port; // Replication port of the leader
+
+    private final ElementCodec<T> codec; // Decodes the elements
+
+    private final Consumer<Operation<T>> applier; // Applies an operation to the local list
+
+    private final Consumer<Snapshot<T>> loader; // Replaces the local list with a snapshot
+
+    private final long timeoutMillis; // Read timeout, after which the leader is considered gone
+
+    private final long reconnectMillis; // Delay between connection attempts
+
+    private volatile boolean running; // Cleared when the follower is closed
+
+    private volatile Socket socket; // The current connection, null when disconnected
+
+    private volatile long epoch; // Epoch of the leader log the local copy comes from
+
+    private volatile long sequence; // Sequence of the last applied operation
+
+    private volatile long leaderSequence; // Last sequence reported by the leader
+
+    private volatile long syncedAtMillis = -1; // Leader time of the latest state held by the local copy, -1 if unknown
+
+    /**
+     * Constructs a follower; call {@link #start()} to connect to the leader.
+     *
+     * @param host            the host of the leader
+     * @param port            the replication port of the leader
+     * @param codec           decodes the elements
+     * @param applier         applies an operation to the local list
+     * @param loader          replaces the local list with a snapshot
+     * @param timeoutMillis   the read timeout, should exceed the heartbeat
+     *                        interval of the leader
+     * @param reconnectMillis the delay between connection attempts
+     */
+    public ReplicationFollower(String host, int port, ElementCodec<T> codec, Consumer<Operation<T>> applier,
+            Consumer<Snapshot<T>> loader, long timeoutMillis, long reconnectMillis) {
+        this.host = host;
+        this.port = port;
+        this.codec = codec;
+        this.applier = applier;
+        this.loader = loader;
+        this.timeoutMillis = timeoutMillis;
+        this.reconnectMillis = reconnectMillis;
+    }
+
+    /**
+     * Starts following the leader in a background thread.
+     */
+    public void start() {
+        running = true;
+        Thread follower = new Thread(this::follow, "replication-follower");
+        follower.setDaemon(true);
+        follower.start();
+    }
+
+    /**
+     * Returns how far behind the leader the local copy is. The local copy holds
+     * the state of the leader as of the time the leader applied the last applied
+     * operation, took the loaded snapshot, or sent a heartbeat reporting no
+     * further operation, whichever is latest. The staleness is the time elapsed
+     * since then; it compares the clocks of the leader and of the follower, and is
+     * only as accurate as their synchronization.
+     *
+     * @return the replication status
+     */
+    public Status getStatus() {
+        long synced = syncedAtMillis;
+        return new Status(socket != null, sequence, leaderSequence,
+                synced < 0 ? -1 : System.currentTimeMillis() - synced);
+    }
+
+    /**
+     * Stops following the leader.
+     *
+     * @throws IOException if the connection cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        running = false;
+        Socket current = socket;
+        if (current != null) {
+            current.close();
+        }
+    }
+
+    /**
+     * Connects to the leader and applies its stream, reconnecting until closed.
+     */
+    private void follow() {
+        while (running) {
+            try (Socket connection = new Socket()) {
+                connection.connect(new InetSocketAddress(host, port), (int) timeoutMillis);
+                connection.setSoTimeout((int) timeoutMillis);
+                connection.setTcpNoDelay(true);
+                socket = connection;
+                LOGGER.info("Connected to the replication leader {}:{} at sequence {}", host, port, sequence);
+                receive(connection);
+            } catch (IOException e) {
+                if (running) {
+                    LOGGER.warn("Lost the replication leader {}:{}: {}", host, port, e.toString());
+                }
+            } finally {
+                socket = null;
+            }
+
+            try {
+                Thread.sleep(reconnectMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Sends the position of the local copy and applies the messages of the leader
+     * until the connection fails.
+     */
+    private void receive(Socket connection) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(connection.getOutputStream()));
+        out.writeLong(epoch);
+        out.writeLong(sequence);
+        out.flush();
+
+        DataInputStream in = new DataInputStream(new BufferedInputStream(connection.getInputStream()));
+        while (running) {
+            byte type = in.readByte();
+            switch (type) {
+                case ReplicationProtocol.SNAPSHOT -> {
+                    long snapshotEpoch = in.readLong();
+                    long takenAtMillis = in.readLong();
+                    Snapshot<T> snapshot = ReplicationProtocol.readSnapshot(in, codec);
+                    loader.accept(snapshot);
+                    epoch = snapshotEpoch;
+                    sequence = snapshot.sequence();
+                    syncedAtMillis = takenAtMillis;
+                    LOGGER.info("Loaded a snapshot of {} elements at sequence {}", snapshot.elements().size(),
+                            snapshot.sequence());
+                }
+                case ReplicationProtocol.OPERATION -> {
+                    Operation<T> operation = ReplicationProtocol.readOperation(in, codec);
+                    if (operation.sequence() != sequence + 1) {
+                        throw new IOException("Expected operation " + (sequence + 1) + " but received "
+                                + operation.sequence());
+                    }
+                    try {
+                        applier.accept(operation);
+                    } catch (RuntimeException e) {
+                        // The local copy diverged, start over from a snapshot
+                        epoch = 0;
+                        throw new IOException("Failed to apply operation " + operation.sequence(), e);
+                    }
+                    sequence = operation.sequence();
+                    syncedAtMillis = Math.max(syncedAtMillis, operation.timeMillis());
+                }
+                case ReplicationProtocol.HEARTBEAT -> {
+                    long reported = in.readLong();
+                    long sentAtMillis = in.readLong();
+                    leaderSequence = reported;
+                    if (sequence >= reported) {
+                        syncedAtMillis = Math.max(syncedAtMillis, sentAtMillis);
+                    }
+                }
+                default -> throw new IOException("Unknown replication message: " + type);
+            }
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.trinhxuantam.threadsafesinglylinkedlist.utils.replication;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Accepts follower connections and streams the {@link OperationLog} to each of
+ * them from the position they ask for, falling back to a {@link Snapshot} when
+ * that position is no longer in the log or belongs to another epoch.
+ * <p>
+ * Each follower is served by its own thread, so a slow follower only delays
+ * itself.
+ *
+ * @param <T> the type of elements held in the list
+ */
+public class ReplicationLeader<T> implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplicationLeader.class);
+
+    private static final int BATCH_SIZE = 1024; // Maximum operations sent between two flushes
+
+    private final OperationLog<T> log; // The log streamed to the followers
+
+    private final Supplier<Snapshot<T>> snapshots; // Takes a snapshot consistent with the log
+
+    private final ElementCodec<T> codec; // Encodes the elements
+
+    private final int port; // Port to listen on, 0 for any free port
+
+    private final long heartbeatMillis; // Idle time after which a heartbeat is sent
+
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet(); // Open follower connections
+
+    private volatile ServerSocket server; // The listening socket, null until started
+
+    private Thread acceptor; // Thread accepting the followers, null until started
+
+    /**
+     * Constructs a leader; call {@link #start()} to accept followers.
+     *
+     * @param log             the log streamed to the followers
+     * @param snapshots       takes a snapshot of the list consistent with the log
+     * @param codec           encodes the elements
+     * @param port            the port to listen on, 0 for any free port
+     * @param heartbeatMillis the idle time after which a heartbeat is sent
+     */
+    public ReplicationLeader(OperationLog<T> log, Supplier<Snapshot<T>> snapshots, ElementCodec<T> codec, int port,
+            long heartbeatMillis) {
+        this.log = log;
+        this.snapshots = snapshots;
+        this.codec = codec;
+        this.port = port;
+        this.heartbeatMillis = heartbeatMillis;
+    }
+
+    /**
+     * Binds the listening socket and starts accepting followers.
+     *
+     * @throws IOException if the socket cannot be bound
+     */
+    public void start() throws IOException {
+        server = new ServerSocket();
+        server.setReuseAddress(true);
+        server.bind(new InetSocketAddress(port));
+        acceptor = new Thread(this::accept, "replication-leader");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        LOGGER.info("Replication leader listening on port {}", getPort());
+    }
+
+    /**
+     * Returns the port the leader listens on.
+     *
+     * @return the bound port, or -1 if not started
+     */
+    public int getPort() {
+        ServerSocket socket = server;
+        return socket == null ? -1 : socket.getLocalPort();
+    }
+
+    /**
+     * Stops accepting followers and aborts every follower connection. Returns once
+     * the port is released: the listening socket is only released when the
+     * accepting thread exits, and the connections are reset rather than closed
+     * gracefully so that they do not linger on the port either. A connection that
+     * fails to close is logged and does not prevent closing the others.
+     *
+     * @throws IOException if the listening socket cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (server != null) {
+            server.close();
+            try {
+                acceptor.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        for (Socket connection : connections) {
+            if (connection.isClosed()) {
+                continue; // The follower disconnected meanwhile
+            }
+            try {
+                connection.setSoLinger(true, 0);
+                connection.close();
+            } catch (IOException e) {
+                // Closed concurrently by its sender thread, the other connections still need closing
+                LOGGER.warn("Failed to reset the connection of follower {}", connection.getRemoteSocketAddress(), e);
+            }
+        }
+    }
+
+    /**
+     * Accepts followers until the listening socket is closed.
+     */
+    private void accept() {
+        while (!server.isClosed()) {
+            try {
+                Socket socket = server.accept();
+                socket.setTcpNoDelay(true);
+                connections.add(socket);
+                Thread sender = new Thread(() -> serve(socket), "replication-" + socket.getRemoteSocketAddress());
+                sender.setDaemon(true);
+                sender.start();
+            } catch (IOException e) {
+                if (!server.isClosed()) {
+                    LOGGER.warn("Failed to accept a follower", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Streams the log to one follower until it disconnects.
+     */
+    private void serve(Socket socket) {
+        try (socket;
+                DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()))) {
+            long followerEpoch = in.readLong();
+            long sent = in.readLong();
+            LOGGER.info("Follower {} connected at sequence {}", socket.getRemoteSocketAddress(), sent);
+
+            if (followerEpoch != log.getEpoch() || !log.canReadAfter(sent)) {
+                sent = sendSnapshot(out);
+            }
+            while (!socket.isClosed()) {
+                List<Operation<T>> operations = log.readAfter(sent, BATCH_SIZE, heartbeatMillis);
+                if (operations == null) {
+                    // The follower fell behind the retained operations
+                    sent = sendSnapshot(out);
+                    continue;
+                }
+                for (Operation<T> operation : operations) {
+                    ReplicationProtocol.writeOperation(out, codec, operation);
+                    sent = operation.sequence();
+                }
+                ReplicationProtocol.writeHeartbeat(out, log.lastSequence(), System.currentTimeMillis());
+                out.flush();
+            }
+        } catch (IOException e) {
+            LOGGER.info("Follower {} disconnected: {}", socket.getRemoteSocketAddress(), e.toString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            connections.remove(socket);
+        }
+    }
+
+    /**
+     * Sends a snapshot of the list and returns the sequence it reflects.
+     */
+    private long sendSnapshot(DataOutputStream out) throws IOException {
+        // Read the time first: the snapshot holds at least every operation applied by then
+        long timeMillis = System.currentTimeMillis();
+        Snapshot<T> snapshot = snapshots.get();
+        ReplicationProtocol.writeSnapshot(out, codec, log.getEpoch(), timeMillis, snapshot);
+        out.flush();
+        return snapshot.sequence();
+    }
+}
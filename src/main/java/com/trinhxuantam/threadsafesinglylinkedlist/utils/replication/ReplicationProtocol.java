@@ -0,0 +1,112 @@
+package com.trinhxuantam.threadsafesinglylinkedlist.utils.replication;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Messages exchanged between the leader and its followers over TCP.
+ * <p>
+ * On connection the follower sends the epoch and sequence of the last
+ * operation it applied ({@code 0} and {@code 0} if none). The leader then
+ * answers with a stream of messages, each starting with a type byte:
+ * <ul>
+ * <li>{@link #SNAPSHOT}: epoch, time taken, sequence, element count and
+ * elements. Replaces the content of the follower.</li>
+ * <li>{@link #OPERATION}: sequence, time applied, type ordinal, element and
+ * reference element. Follows the previous operation or snapshot without
+ * gap.</li>
+ * <li>{@link #HEARTBEAT}: the last sequence of the leader and the time when the
+ * message was sent. Sent after every batch of operations and when idle.</li>
+ * </ul>
+ * Times are read from the clock of the leader, in milliseconds since the
+ * epoch.
+ */
+final class ReplicationProtocol {
+
+    /**
+     * Type byte of a snapshot message.
+     */
+    static final byte SNAPSHOT = 1;
+
+    /**
+     * Type byte of an operation message.
+     */
+    static final byte OPERATION = 2;
+
+    /**
+     * Type byte of a heartbeat message.
+     */
+    static final byte HEARTBEAT = 3;
+
+    private ReplicationProtocol() {
+    }
+
+    /**
+     * Writes a snapshot message.
+     */
+    static <T> void writeSnapshot(DataOutput out, ElementCodec<T> codec, long epoch, long timeMillis,
+            Snapshot<T> snapshot) throws IOException {
+        out.writeByte(SNAPSHOT);
+        out.writeLong(epoch);
+        out.writeLong(timeMillis);
+        out.writeLong(snapshot.sequence());
+        out.writeInt(snapshot.elements().size());
+        for (T element : snapshot.elements()) {
+            codec.write(out, element);
+        }
+    }
+
+    /**
+     * Reads the body of a snapshot message, after its type byte, epoch and time.
+     */
+    static <T> Snapshot<T> readSnapshot(DataInput in, ElementCodec<T> codec) throws IOException {
+        long sequence = in.readLong();
+        int size = in.readInt();
+        if (size < 0) {
+            throw new IOException("Invalid snapshot size: " + size);
+        }
+        List<T> elements = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            elements.add(codec.read(in));
+        }
+        return new Snapshot<>(sequence, elements);
+    }
+
+    /**
+     * Writes an operation message.
+     */
+    static <T> void writeOperation(DataOutput out, ElementCodec<T> codec, Operation<T> operation)
+            throws IOException {
+        out.writeByte(OPERATION);
+        out.writeLong(operation.sequence());
+        out.writeLong(operation.timeMillis());
+        out.writeByte(operation.type().ordinal());
+        codec.write(out, operation.element());
+        codec.write(out, operation.after());
+    }
+
+    /**
+     * Writes a heartbeat message.
+     */
+    static void writeHeartbeat(DataOutput out, long lastSequence, long timeMillis) throws IOException {
+        out.writeByte(HEARTBEAT);
+        out.writeLong(lastSequence);
+        out.writeLong(timeMillis);
+    }
+
+    /**
+     * Reads the body of an operation message, after its type byte.
+     */
+    static <T> Operation<T> readOperation(DataInput in, ElementCodec<T> codec) throws IOException {
+        long sequence = in.readLong();
+        long timeMillis = in.readLong();
+        int type = in.readByte();
+        if (type < 0 || type >= Operation.Type.values().length) {
+            throw new IOException("Invalid operation type: " + type);
+        }
+        return new Operation<>(sequence, timeMillis, Operation.Type.values()[type], codec.read(in), codec.read(in));
+    }
+}
@@ -0,0 +1,14 @@
+package com.trinhxuantam.threadsafesinglylinkedlist.utils.replication;
+
+import java.util.List;
+
+/**
+ * The content of the list as of a given position of the {@link OperationLog},
+ * sent to followers that are too far behind to catch up from the log.
+ *
+ * @param sequence the sequence of the last operation reflected in the elements
+ * @param elements the elements of the list, from head to tail
+ * @param <T>      the type of elements held in the list
+ */
+public record Snapshot<T>(long sequence, List<T> elements) {
+}
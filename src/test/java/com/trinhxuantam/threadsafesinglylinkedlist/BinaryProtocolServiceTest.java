@@ -0,0 +1,175 @@
+package com.trinhxuantam.threadsafesinglylinkedlist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.trinhxuantam.threadsafesinglylinkedlist.services.BinaryProtocolService;
+import com.trinhxuantam.threadsafesinglylinkedlist.services.LinkedListService;
+import com.trinhxuantam.threadsafesinglylinkedlist.utils.protocol.VarInts;
+
+/**
+ * Tests for the {@link BinaryProtocolService} that ensure frames are decoded,
+ * executed and answered as specified, and that malformed frames are rejected
+ * without touching the list.
+ */
+public class BinaryProtocolServiceTest {
+
+    private BinaryProtocolService protocol;
+
+    private LinkedListService<Integer> service;
+
+    /**
+     * Set up the test environment. This method wires a new protocol service to a
+     * new linked list service before each test method is executed.
+     */
+    @BeforeEach
+    public void setUp() {
+        service = new LinkedListService<>();
+        protocol = new BinaryProtocolService();
+        ReflectionTestUtils.setField(protocol, "service", service);
+    }
+
+    /**
+     * Tests the tagged element encoding round trip, including null and the int
+     * bounds.
+     */
+    @Test
+    public void testElementEncoding() {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        Integer[] elements = { 0, -1, 1, 63, -64, null, Integer.MAX_VALUE, Integer.MIN_VALUE };
+        for (Integer element : elements) {
+            VarInts.writeElement(buffer, element);
+        }
+        buffer.flip();
+
+        assertEquals(2, buffer.get(0), "Zero is encoded as a single byte");
+        for (Integer element : elements) {
+            assertEquals(element, VarInts.readElement(buffer));
+        }
+        assertFalse(buffer.hasRemaining());
+    }
+
+    /**
+     * Tests a frame mixing every operation, checking the status and payload of
+     * each result and the resulting list.
+     */
+    @Test
+    public void testBatch() {
+        ByteBuffer frame = ByteBuffer.allocate(64);
+        VarInts.writeUnsigned(frame, 7);
+        frame.put(BinaryProtocolService.PUSH);
+        VarInts.writeElement(frame, 1);
+        frame.put(BinaryProtocolService.PUSH);
+        VarInts.writeElement(frame, -300);
+        frame.put(BinaryProtocolService.INSERT_AFTER);
+        VarInts.writeElement(frame, 2);
+        VarInts.writeElement(frame, 1);
+        frame.put(BinaryProtocolService.INSERT_AFTER);
+        VarInts.writeElement(frame, 5);
+        VarInts.writeElement(frame, 42);
+        frame.put(BinaryProtocolService.POP);
+        frame.put(BinaryProtocolService.PUSH);
+        VarInts.writeElement(frame, null);
+        frame.put(BinaryProtocolService.GET_ALL);
+        frame.flip();
+
+        ByteBuffer response = execute(frame);
+
+        assertEquals(7, VarInts.readUnsigned(response));
+        assertEquals(BinaryProtocolService.OK, response.get());
+        assertEquals(BinaryProtocolService.OK, response.get());
+        assertEquals(BinaryProtocolService.OK, response.get());
+        assertEquals(BinaryProtocolService.NOT_FOUND, response.get());
+        assertEquals(BinaryProtocolService.OK, response.get());
+        assertEquals(-300, VarInts.readElement(response));
+        assertEquals(BinaryProtocolService.OK, response.get());
+        assertEquals(BinaryProtocolService.OK, response.get());
+        assertEquals(Arrays.asList(1, 2, null), readElements(response));
+        assertFalse(response.hasRemaining());
+        assertEquals(Arrays.asList(1, 2, null), service.getAllElements());
+    }
+
+    /**
+     * Tests that popping from an empty list answers the empty status.
+     */
+    @Test
+    public void testPopEmptyList() {
+        ByteBuffer frame = ByteBuffer.wrap(new byte[] { 1, BinaryProtocolService.POP });
+
+        ByteBuffer response = execute(frame);
+
+        assertEquals(1, VarInts.readUnsigned(response));
+        assertEquals(BinaryProtocolService.EMPTY, response.get());
+        assertFalse(response.hasRemaining());
+    }
+
+    /**
+     * Tests that a list larger than the response buffer is streamed completely.
+     */
+    @Test
+    public void testGetAllLargeList() {
+        int size = 20000;
+        for (int i = 0; i < size; i++) {
+            service.append(i);
+        }
+
+        ByteBuffer response = execute(ByteBuffer.wrap(new byte[] { 1, BinaryProtocolService.GET_ALL }));
+
+        assertEquals(1, VarInts.readUnsigned(response));
+        assertEquals(BinaryProtocolService.OK, response.get());
+        assertEquals(service.getAllElements(), readElements(response));
+        assertFalse(response.hasRemaining());
+    }
+
+    /**
+     * Tests that malformed frames are rejected before any operation executes.
+     */
+    @Test
+    public void testMalformedFrame() {
+        // A valid push followed by an unknown opcode
+        ByteBuffer unknownOpcode = ByteBuffer.wrap(new byte[] { 2, BinaryProtocolService.PUSH, 4, 0x7F });
+        assertThrowsExactly(IllegalArgumentException.class, () -> execute(unknownOpcode));
+
+        // A push whose element is missing
+        ByteBuffer truncated = ByteBuffer.wrap(new byte[] { 1, BinaryProtocolService.PUSH });
+        assertThrowsExactly(IllegalArgumentException.class, () -> execute(truncated));
+
+        // A push whose element is the end marker
+        ByteBuffer endMarker = ByteBuffer.wrap(new byte[] { 1, BinaryProtocolService.PUSH, 0 });
+        assertThrowsExactly(IllegalArgumentException.class, () -> execute(endMarker));
+
+        assertEquals(List.of(), service.getAllElements());
+    }
+
+    /**
+     * Executes a frame and returns the response frame.
+     */
+    private ByteBuffer execute(ByteBuffer frame) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        protocol.execute(frame, out);
+        return ByteBuffer.wrap(out.toByteArray());
+    }
+
+    /**
+     * Reads tagged elements up to the end marker.
+     */
+    private List<Integer> readElements(ByteBuffer response) {
+        List<Integer> elements = new ArrayList<>();
+        long tag;
+        while ((tag = VarInts.readUnsigned(response)) != VarInts.END) {
+            elements.add(VarInts.untag(tag));
+        }
+        return elements;
+    }
+}
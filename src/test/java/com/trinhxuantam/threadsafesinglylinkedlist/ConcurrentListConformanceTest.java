@@ -0,0 +1,392 @@
+package com.trinhxuantam.threadsafesinglylinkedlist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import com.trinhxuantam.threadsafesinglylinkedlist.utils.collections.ConcurrentList;
+import com.trinhxuantam.threadsafesinglylinkedlist.utils.collections.ListStrategy;
+
+/**
+ * Conformance tests run against every {@link ListStrategy}, checking that all
+ * implementations of {@link ConcurrentList} behave the same, alone and under
+ * concurrent use.
+ */
+public class ConcurrentListConformanceTest {
+
+    private static final int THREADS = 4; // Threads used by the concurrent tests
+
+    /**
+     * Tests that pushed elements are returned in order, null included, by both
+     * {@code getAll} and the iterator.
+     *
+     * @param strategy the implementation under test
+     */
+    @ParameterizedTest
+    @EnumSource(ListStrategy.class)
+    public void testPushAndRead(ListStrategy strategy) {
+        ConcurrentList<Integer> list = strategy.create();
+        assertTrue(list.isEmpty());
+        assertEquals(List.of(), list.getAll());
+
+        List<Integer> expected = Arrays.asList(1, 2, null, 3);
+        expected.forEach(list::push);
+
+        assertEquals(expected, list.getAll());
+        List<Integer> iterated = new ArrayList<>();
+        list.forEach(iterated::add);
+        assertEquals(expected, iterated);
+        assertEquals(4, list.size());
+        assertFalse(list.isEmpty());
+
+        Iterator<Integer> iterator = strategy.<Integer>create().iterator();
+        assertFalse(iterator.hasNext());
+        assertThrowsExactly(NoSuchElementException.class, iterator::next);
+    }
+
+    /**
+     * Tests that an element is inserted after the first occurrence of another
+     * one, that the list can still be appended to after inserting at its end, and
+     * that a missing or null element to insert after is rejected.
+     *
+     * @param strategy the implementation under test
+     */
+    @ParameterizedTest
+    @EnumSource(ListStrategy.class)
+    public void testInsertAfter(ListStrategy strategy) {
+        ConcurrentList<Integer> list = strategy.create();
+        assertThrowsExactly(NoSuchElementException.class, () -> list.insertAfter(1, 2));
+
+        Arrays.asList(1, 2, null, 1).forEach(list::push);
+        list.insertAfter(10, 1);
+        list.insertAfter(20, 1);
+        assertEquals(Arrays.asList(1, 20, 10, 2, null, 1), list.getAll());
+
+        list.insertAfter(30, 2);
+        list.push(40);
+        assertEquals(Arrays.asList(1, 20, 10, 2, 30, null, 1, 40), list.getAll());
+
+        assertThrowsExactly(NoSuchElementException.class, () -> list.insertAfter(50, 99));
+        assertThrowsExactly(NoSuchElementException.class, () -> list.insertAfter(50, null));
+        assertEquals(8, list.size());
+    }
+
+    /**
+     * Tests that elements are popped from the end of the list, that the list can
+     * be appended to after a pop, and that popping an empty list is rejected.
+     *
+     * @param strategy the implementation under test
+     */
+    @ParameterizedTest
+    @EnumSource(ListStrategy.class)
+    public void testPop(ListStrategy strategy) {
+        ConcurrentList<Integer> list = strategy.create();
+        assertThrowsExactly(IllegalStateException.class, list::pop);
+
+        Arrays.asList(1, 2, 3).forEach(list::push);
+        assertEquals(3, list.pop());
+        list.push(4);
+        list.insertAfter(5, 4);
+        assertEquals(5, list.pop());
+        assertEquals(4, list.pop());
+        assertEquals(2, list.pop());
+        assertEquals(1, list.pop());
+        assertTrue(list.isEmpty());
+        assertThrowsExactly(IllegalStateException.class, list::pop);
+
+        list.push(6);
+        assertEquals(List.of(6), list.getAll());
+    }
+
+    /**
+     * Tests the single and bulk removals, at the ends and in the middle of the
+     * list, and that the list can be appended to after removing its last element.
+     *
+     * @param strategy the implementation under test
+     */
+    @ParameterizedTest
+    @EnumSource(ListStrategy.class)
+    public void testRemovals(ListStrategy strategy) {
+        ConcurrentList<Integer> list = strategy.create();
+        Arrays.asList(1, 2, null, 3, 2, 4, 5, 6).forEach(list::push);
+
+        assertTrue(list.remove(2));
+        assertTrue(list.remove(null));
+        assertFalse(list.remove(10));
+        assertEquals(List.of(1, 3, 2, 4, 5, 6), list.getAll());
+
+        assertEquals(2, list.removeAll(Set.of(1, 6, 7)));
+        assertEquals(List.of(3, 2, 4, 5), list.getAll());
+        list.push(7);
+
+        assertEquals(3, list.removeIf(i -> i % 2 == 1));
+        assertEquals(0, list.removeIf(i -> i > 100));
+        assertEquals(0, list.removeAll(List.of()));
+        assertEquals(List.of(2, 4), list.getAll());
+        assertEquals(2, list.size());
+
+        list.push(8);
+        assertEquals(8, list.pop());
+        assertEquals(4, list.pop());
+    }
+
+    /**
+     * Tests that threads removing overlapping sets of elements, while others push
+     * more, are each told exactly the elements they removed.
+     *
+     * @param strategy the implementation under test
+     * @throws Exception if a thread fails
+     */
+    @ParameterizedTest
+    @EnumSource(ListStrategy.class)
+    public void testConcurrentRemoveIfReportsRemoved(ListStrategy strategy) throws Exception {
+        ConcurrentList<Integer> list = strategy.create();
+        int initialSize = 2000;
+        for (int i = 0; i < initialSize; i++) {
+            list.push(i);
+        }
+        List<Integer> reported = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger counted = new AtomicInteger();
+
+        // Odd threads push, even threads remove the elements below the initial size
+        runConcurrently(thread -> {
+            for (int round = 0; round < 50; round++) {
+                if (thread % 2 == 0) {
+                    int bucket = round;
+                    List<Integer> removed = new ArrayList<>();
+                    int count = list.removeIf(i -> i < initialSize && i % 50 == bucket, removed::add);
+                    assertEquals(count, removed.size());
+                    reported.addAll(removed);
+                    counted.addAndGet(count);
+                } else {
+                    list.push(initialSize + thread * 50 + round);
+                }
+            }
+        });
+
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < initialSize; i++) {
+            expected.add(i);
+        }
+        assertEquals(initialSize, counted.get());
+        assertEquals(expected, reported.stream().sorted().toList());
+        assertEquals(100, list.size());
+        assertTrue(list.getAll().stream().allMatch(i -> i >= initialSize));
+    }
+
+    /**
+     * Tests that concurrent pushes are all kept, each thread's elements in the
+     * order it pushed them.
+     *
+     * @param strategy the implementation under test
+     * @throws Exception if a task fails or the thread is interrupted
+     */
+    @ParameterizedTest
+    @EnumSource(ListStrategy.class)
+    public void testConcurrentPush(ListStrategy strategy) throws Exception {
+        ConcurrentList<Integer> list = strategy.create();
+        int perThread = 2000;
+
+        runConcurrently(thread -> {
+            for (int i = 0; i < perThread; i++) {
+                list.push(thread * perThread + i);
+            }
+        });
+
+        List<Integer> all = list.getAll();
+        assertEquals(THREADS * perThread, all.size());
+        assertEquals(all.size(), list.size());
+        int[] last = new int[THREADS];
+        Arrays.fill(last, -1);
+        for (int element : all) {
+            int thread = element / perThread;
+            assertTrue(element > last[thread], "Elements of a thread keep their order");
+            last[thread] = element;
+        }
+    }
+
+    /**
+     * Tests removals racing with insertions after the neighbouring elements: each
+     * insertion must land after its reference element and none may be lost.
+     *
+     * @param strategy the implementation under test
+     * @throws Exception if a task fails or the thread is interrupted
+     */
+    @ParameterizedTest
+    @EnumSource(ListStrategy.class)
+    public void testConcurrentRemoveAndInsertAfter(ListStrategy strategy) throws Exception {
+        ConcurrentList<Integer> list = strategy.create();
+        int initialSize = 1000;
+        for (int i = 0; i < initialSize; i++) {
+            list.push(i);
+        }
+
+        // Each thread removes the even elements and inserts after the odd ones of its share
+        runConcurrently(thread -> {
+            for (int i = thread; i < initialSize; i += THREADS) {
+                if (i % 2 == 0) {
+                    assertTrue(list.remove(i));
+                } else {
+                    list.insertAfter(i + initialSize, i);
+                }
+            }
+        });
+
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 1; i < initialSize; i += 2) {
+            expected.add(i);
+            expected.add(i + initialSize);
+        }
+        assertEquals(expected, list.getAll());
+        assertEquals(expected.size(), list.size());
+    }
+
+    /**
+     * Tests a random mix of every operation from several threads, checking that
+     * the size matches the successful operations and the content of the list, and
+     * that no element is duplicated.
+     *
+     * @param strategy the implementation under test
+     * @throws Exception if a task fails or the thread is interrupted
+     */
+    @ParameterizedTest
+    @EnumSource(ListStrategy.class)
+    public void testConcurrentMixedOperations(ListStrategy strategy) throws Exception {
+        ConcurrentList<Integer> list = strategy.create();
+        AtomicInteger ids = new AtomicInteger(); // Source of unique elements
+        AtomicLong expectedSize = new AtomicLong();
+
+        runConcurrently(thread -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int i = 0; i < 2000; i++) {
+                int known = Math.max(1, ids.get());
+                try {
+                    switch (random.nextInt(6)) {
+                        case 0, 1 -> {
+                            list.push(ids.incrementAndGet());
+                            expectedSize.incrementAndGet();
+                        }
+                        case 2 -> {
+                            list.insertAfter(ids.incrementAndGet(), random.nextInt(known));
+                            expectedSize.incrementAndGet();
+                        }
+                        case 3 -> {
+                            list.pop();
+                            expectedSize.decrementAndGet();
+                        }
+                        case 4 -> {
+                            if (list.remove(random.nextInt(known))) {
+                                expectedSize.decrementAndGet();
+                            }
+                        }
+                        default -> {
+                            int divisor = random.nextInt(5, 50);
+                            expectedSize.addAndGet(-list.removeIf(element -> element % divisor == 0));
+                        }
+                    }
+                } catch (NoSuchElementException | IllegalStateException e) {
+                    // Missing reference element or empty list, nothing changed
+                }
+            }
+        });
+
+        List<Integer> all = list.getAll();
+        assertEquals(expectedSize.get(), all.size());
+        assertEquals(all.size(), list.size());
+        assertEquals(all.size(), new HashSet<>(all).size(), "No element is duplicated");
+    }
+
+    /**
+     * Tests that iterators keep traversing while other threads modify the list,
+     * never returning an element that was never in the list, and that the
+     * elements present throughout are all returned in order.
+     *
+     * @param strategy the implementation under test
+     * @throws Exception if a task fails or the thread is interrupted
+     */
+    @ParameterizedTest
+    @EnumSource(ListStrategy.class)
+    public void testIterateWhileModified(ListStrategy strategy) throws Exception {
+        ConcurrentList<Integer> list = strategy.create();
+        int stable = 500;
+        for (int i = 0; i < stable; i++) {
+            list.push(i);
+        }
+
+        // Thread 0 iterates while the others insert, pop and remove elements of their own
+        runConcurrently(thread -> {
+            for (int round = 0; round < 200; round++) {
+                if (thread == 0) {
+                    int expected = 0;
+                    for (int element : list) {
+                        if (element < stable) {
+                            assertEquals(expected++, element, "Stable elements are returned in order");
+                        } else {
+                            assertTrue(element < stable + THREADS * 200 * 2, "Only pushed elements are returned");
+                        }
+                    }
+                    assertEquals(stable, expected, "Every stable element is returned");
+                } else {
+                    int own = stable + (thread * 200 + round) * 2;
+                    list.insertAfter(own, round % stable);
+                    list.remove(own);
+                    list.push(own + 1);
+                    list.removeIf(i -> i == own + 1);
+                }
+            }
+        });
+        assertEquals(stable, list.size());
+    }
+
+    /**
+     * Task run by each thread of a concurrent test.
+     */
+    private interface ThreadTask {
+        /**
+         * Runs the task.
+         *
+         * @param thread the index of the thread running the task
+         */
+        void run(int thread);
+    }
+
+    /**
+     * Runs a task on {@value #THREADS} threads at once and rethrows the first
+     * failure.
+     */
+    private static void runConcurrently(ThreadTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                final int index = thread;
+                futures.add(executor.submit(() -> task.run(index)));
+            }
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.trinhxuantam.threadsafesinglylinkedlist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.event.EventListener;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trinhxuantam.threadsafesinglylinkedlist.config.LinkedListProperties;
+import com.trinhxuantam.threadsafesinglylinkedlist.config.ListWarmupRunner;
+import com.trinhxuantam.threadsafesinglylinkedlist.utils.collections.ListStrategy;
+
+/**
+ * Tests the support of the fast startup mode: the warm-up run before the
+ * instance reports ready.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "linkedlist.warmup.enabled=true", "linkedlist.warmup.iterations=2000" })
+public class FastStartupTest {
+
+    @Autowired
+    private ReadinessRecorder recorder;
+
+    @Autowired
+    private ApplicationAvailability availability;
+
+    /**
+     * Tests that the warm-up completes with every strategy, from several threads
+     * contending on the scratch list.
+     *
+     * @param strategy the strategy of the list to warm up
+     * @throws Exception if the warm-up fails
+     */
+    @ParameterizedTest
+    @EnumSource(ListStrategy.class)
+    public void testWarmup(ListStrategy strategy) throws Exception {
+        LinkedListProperties properties = new LinkedListProperties();
+        properties.setStrategy(strategy);
+        properties.getWarmup().setEnabled(true);
+        properties.getWarmup().setIterations(2000);
+        properties.getWarmup().setThreads(4);
+
+        ListWarmupRunner runner = new ListWarmupRunner();
+        ReflectionTestUtils.setField(runner, "properties", properties);
+        ReflectionTestUtils.setField(runner, "objectMapper", new ObjectMapper());
+        runner.run(null);
+        assertTrue(runner.isCompleted());
+    }
+
+    /**
+     * Tests that the application starts accepting traffic, which is what the
+     * readiness probe reports, only once the warm-up has completed.
+     */
+    @Test
+    public void testReadyAfterWarmup() {
+        assertEquals(ReadinessState.ACCEPTING_TRAFFIC, availability.getReadinessState());
+        assertEquals(List.of(true), recorder.warmedUpWhenReady);
+    }
+
+    /**
+     * Records, whenever the application starts accepting traffic, whether the
+     * warm-up had completed.
+     */
+    @TestConfiguration
+    static class ReadinessRecorder {
+
+        private final List<Boolean> warmedUpWhenReady = new CopyOnWriteArrayList<>(); // One entry per change
+
+        @Autowired
+        private ListWarmupRunner runner;
+
+        /**
+         * Records whether the warm-up had completed when the application started
+         * accepting traffic.
+         *
+         * @param event the readiness change
+         */
+        @EventListener
+        void onReadinessChange(AvailabilityChangeEvent<ReadinessState> event) {
+            if (event.getState() == ReadinessState.ACCEPTING_TRAFFIC) {
+                warmedUpWhenReady.add(runner.isCompleted());
+            }
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.trinhxuantam.threadsafesinglylinkedlist;
+
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.trinhxuantam.threadsafesinglylinkedlist.config.GlobalExceptionHandler;
+import com.trinhxuantam.threadsafesinglylinkedlist.controllers.LinkedListController;
+import com.trinhxuantam.threadsafesinglylinkedlist.services.BinaryProtocolService;
+import com.trinhxuantam.threadsafesinglylinkedlist.services.LinkedListService;
+import com.trinhxuantam.threadsafesinglylinkedlist.utils.replication.ElementCodec;
+import com.trinhxuantam.threadsafesinglylinkedlist.utils.replication.ReplicationFollower;
+
+/**
+ * Tests of the {@link LinkedListController} through the MVC stack, checking
+ * how the endpoints answer, errors included.
+ */
+public class LinkedListControllerTest {
+
+    private LinkedListService<Integer> service;
+
+    private LinkedListController controller;
+
+    private MockMvc mvc;
+
+    /**
+     * Set up the test environment. This method wires a new controller to new
+     * services and the exception handler before each test method is executed.
+     */
+    @BeforeEach
+    public void setUp() {
+        service = new LinkedListService<>();
+        BinaryProtocolService binaryService = new BinaryProtocolService();
+        ReflectionTestUtils.setField(binaryService, "service", service);
+        controller = new LinkedListController();
+        ReflectionTestUtils.setField(controller, "service", service);
+        ReflectionTestUtils.setField(controller, "binaryService", binaryService);
+        mvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    /**
+     * Tests that a well-formed binary frame is answered with a binary frame.
+     *
+     * @throws Exception if the request fails
+     */
+    @Test
+    public void testBinaryFrame() throws Exception {
+        // One push of 1 (tag 2 * 1 + 2 = 4), answered by one OK status
+        mvc.perform(post("/api/linkedlist/binary")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .content(new byte[] { 0x01, BinaryProtocolService.PUSH, 0x04 }))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_OCTET_STREAM))
+                .andExpect(content().bytes(new byte[] { 0x01, BinaryProtocolService.OK }));
+    }
+
+    /**
+     * Tests that a malformed binary frame is answered with the documented JSON
+     * error rather than a partial binary response.
+     *
+     * @throws Exception if the request fails
+     */
+    @Test
+    public void testMalformedBinaryFrame() throws Exception {
+        mvc.perform(post("/api/linkedlist/binary")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .content(new byte[] { 0x02, BinaryProtocolService.POP, 0x7F }))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.title").value("Malformed request"));
+    }
+
+    /**
+     * Tests the JSON shape of the aggregate and histogram responses, buckets
+     * being keyed by their start.
+     *
+     * @throws Exception if the request fails
+     */
+    @Test
+    public void testQueries() throws Exception {
+        for (int element : new int[] { 12, -3, 1, 5 }) {
+            service.append(element);
+        }
+        service.append(null);
+
+        mvc.perform(get("/api/linkedlist/count").param("predicate", "gt:0,odd"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.value").value(2));
+        mvc.perform(get("/api/linkedlist/min"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.value").value(-3));
+        mvc.perform(get("/api/linkedlist/histogram").param("bucketWidth", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.bucketWidth").value(10))
+                .andExpect(jsonPath("$.buckets.length()").value(3))
+                .andExpect(jsonPath("$.buckets['-10']").value(1))
+                .andExpect(jsonPath("$.buckets['0']").value(2))
+                .andExpect(jsonPath("$.buckets['10']").value(1));
+        mvc.perform(get("/api/linkedlist/filter").param("predicate", "ge:1").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value(contains(12, 1)));
+    }
+
+    /**
+     * Tests that malformed or unanswerable queries are answered with a bad
+     * request rather than a server error.
+     *
+     * @throws Exception if the request fails
+     */
+    @Test
+    public void testInvalidQueries() throws Exception {
+        mvc.perform(get("/api/linkedlist/count").param("predicate", "between:1"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.title").value("Malformed request"));
+        mvc.perform(get("/api/linkedlist/filter").param("predicate", "gt:x"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.title").value("Malformed request"));
+        mvc.perform(get("/api/linkedlist/filter"))
+                .andExpect(status().isBadRequest());
+        mvc.perform(get("/api/linkedlist/min"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.title").value("Illegal state"));
+        mvc.perform(get("/api/linkedlist/histogram").param("bucketWidth", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.title").value("Malformed request"));
+    }
+
+    /**
+     * Tests that on a follower, the query endpoints report the replication status
+     * in the same headers as the list of elements.
+     *
+     * @throws Exception if the request fails
+     */
+    @Test
+    public void testFollowerHeaders() throws Exception {
+        ReplicationFollower<Integer> follower = new ReplicationFollower<>("localhost", 0, ElementCodec.integers(),
+                service::applyReplicated, service::loadReplicated, 1000, 50);
+        ReflectionTestUtils.setField(follower, "sequence", 5L);
+        ReflectionTestUtils.setField(follower, "leaderSequence", 7L);
+        ReflectionTestUtils.setField(controller, "follower", follower);
+        service.append(1);
+
+        for (String query : List.of("/all", "/count?predicate=odd", "/sum", "/min", "/max", "/histogram",
+                "/filter?predicate=odd")) {
+            mvc.perform(get("/api/linkedlist" + query))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("X-Replication-Sequence", "5"))
+                    .andExpect(header().string("X-Replication-Lag", "2"))
+                    .andExpect(header().string("X-Replication-Staleness-Ms", "-1"));
+        }
+    }
+}
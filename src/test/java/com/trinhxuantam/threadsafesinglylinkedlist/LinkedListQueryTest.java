@@ -0,0 +1,215 @@
+package com.trinhxuantam.threadsafesinglylinkedlist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.trinhxuantam.threadsafesinglylinkedlist.config.LinkedListProperties;
+import com.trinhxuantam.threadsafesinglylinkedlist.services.LinkedListService;
+import com.trinhxuantam.threadsafesinglylinkedlist.utils.query.ElementPredicates;
+
+/**
+ * Tests the query methods of the {@link LinkedListService}, evaluated in
+ * parallel over the list and answered from incrementally maintained
+ * aggregates.
+ */
+public class LinkedListQueryTest {
+
+    private LinkedListService<Integer> service;
+
+    /**
+     * Shuts the query pool of the service down.
+     */
+    @AfterEach
+    public void tearDown() {
+        if (service != null) {
+            service.destroy();
+        }
+    }
+
+    /**
+     * Tests that predicates are parsed into the expected conditions and that
+     * malformed predicates are rejected.
+     */
+    @Test
+    public void testParsePredicates() {
+        Predicate<Integer> between = ElementPredicates.parse("gt:10, LE:20,even");
+        assertTrue(between.test(12));
+        assertTrue(between.test(20));
+        assertFalse(between.test(10));
+        assertFalse(between.test(13));
+        assertFalse(between.test(22));
+        assertFalse(between.test(null));
+
+        assertTrue(ElementPredicates.parse("odd").test(-3));
+        assertTrue(ElementPredicates.parse("ne:1").test(2));
+        assertFalse(ElementPredicates.parse("ne:1").test(null));
+        assertTrue(ElementPredicates.parse("eq:-5").test(-5));
+        assertTrue(ElementPredicates.parse("lt:0,ge:-1").test(-1));
+
+        for (String malformed : List.of("", "gt", "gt:", "gt:x", "in:1", "gt:1,", "prime")) {
+            assertThrowsExactly(IllegalArgumentException.class, () -> ElementPredicates.parse(malformed));
+        }
+    }
+
+    /**
+     * Tests the queries evaluated in parallel on a list long enough to be split
+     * among the workers of the query pool.
+     */
+    @Test
+    public void testParallelQueries() {
+        service = newService(false);
+        int size = 100_000;
+        List<Integer> elements = fill(size);
+
+        assertEquals(size + 1, service.count(null));
+        assertEquals(size / 2, service.count(ElementPredicates.parse("even")));
+        assertEquals(expectedSum(elements), service.sum());
+        assertEquals(-size / 2, service.min());
+        assertEquals(size / 2 - 1, service.max());
+        assertEquals(expectedHistogram(elements, 1000), service.histogram(1000));
+
+        Predicate<Integer> multipleOfSeven = i -> i != null && i % 7 == 0;
+        List<Integer> expected = elements.stream().filter(multipleOfSeven).limit(100).toList();
+        assertEquals(expected, service.filter(multipleOfSeven, 100));
+        assertEquals(List.of(-3, -1, 1, 3), service.filter(ElementPredicates.parse("ge:-3,le:3,odd"), 10));
+        assertEquals(List.of(), service.filter(i -> true, 0));
+        assertThrowsExactly(IllegalArgumentException.class, () -> service.filter(i -> true, -1));
+        assertThrowsExactly(IllegalArgumentException.class, () -> service.histogram(0));
+    }
+
+    /**
+     * Tests that filtering with a limit returns the first matching elements in
+     * list order, even when the traversal is split into several batches.
+     */
+    @Test
+    public void testFilterKeepsListOrder() {
+        service = newService(false);
+        for (int i = 0; i < 200_000; i++) {
+            service.append(i);
+        }
+
+        for (int round = 0; round < 10; round++) {
+            assertEquals(List.of(0, 2, 4, 6, 8), service.filter(ElementPredicates.parse("even"), 5));
+            assertEquals(List.of(150_000, 150_001), service.filter(ElementPredicates.parse("ge:150000"), 2));
+        }
+    }
+
+    /**
+     * Tests that the incrementally maintained aggregates follow every kind of
+     * mutation and agree with the aggregates computed by traversing the list.
+     */
+    @Test
+    public void testIncrementalAggregates() {
+        service = newService(true);
+        List<Integer> elements = new ArrayList<>(fill(1000));
+
+        service.insertAfter(5000, 0);
+        elements.add(elements.indexOf(0) + 1, 5000);
+        elements.remove(service.removeLast());
+        service.remove(-500);
+        elements.remove(Integer.valueOf(-500));
+        service.removeAll(Set.of(1, 2, 3, 499));
+        elements.removeAll(Set.of(1, 2, 3, 499));
+
+        assertEquals(elements, service.getAllElements());
+        assertEquals(expectedSum(elements), service.sum());
+        assertEquals(-499, service.min());
+        assertEquals(5000, service.max());
+        assertEquals(expectedHistogram(elements, 100), service.histogram(100));
+
+        LinkedListService<Integer> traversing = newService(false);
+        elements.forEach(traversing::append);
+        assertEquals(traversing.sum(), service.sum());
+        assertEquals(traversing.histogram(7), service.histogram(7));
+        traversing.destroy();
+    }
+
+    /**
+     * Tests that the minimum and maximum of a list without non-null elements are
+     * rejected, with or without incremental aggregates.
+     */
+    @Test
+    public void testEmptyAggregates() {
+        for (boolean incremental : new boolean[] { false, true }) {
+            LinkedListService<Integer> empty = newService(incremental);
+            assertEquals(0, empty.sum());
+            assertThrowsExactly(IllegalStateException.class, empty::min);
+            assertThrowsExactly(IllegalStateException.class, empty::max);
+
+            empty.append(null);
+            empty.append(3);
+            empty.removeLast();
+            assertEquals(1, empty.count(null));
+            assertEquals(0, empty.sum());
+            assertThrowsExactly(IllegalStateException.class, empty::min);
+            assertEquals(Map.of(), empty.histogram(10));
+            empty.destroy();
+        }
+    }
+
+    /**
+     * Creates and initializes a service.
+     *
+     * @param incremental whether the aggregates are maintained incrementally
+     * @return the service
+     */
+    private static LinkedListService<Integer> newService(boolean incremental) {
+        LinkedListProperties properties = new LinkedListProperties();
+        properties.setIncrementalAggregates(incremental);
+        properties.setQueryParallelism(4);
+        LinkedListService<Integer> service = new LinkedListService<>();
+        ReflectionTestUtils.setField(service, "properties", properties);
+        service.init();
+        return service;
+    }
+
+    /**
+     * Appends the elements from minus half the size to half the size, exclusive,
+     * followed by a null element, to the service.
+     *
+     * @param size the number of non-null elements
+     * @return the appended elements
+     */
+    private List<Integer> fill(int size) {
+        List<Integer> elements = new ArrayList<>();
+        for (int i = -size / 2; i < size / 2; i++) {
+            elements.add(i);
+        }
+        elements.add(null);
+        elements.forEach(service::append);
+        return elements;
+    }
+
+    /**
+     * Sums the non-null elements sequentially.
+     */
+    private static long expectedSum(List<Integer> elements) {
+        return elements.stream().filter(i -> i != null).mapToLong(Integer::longValue).sum();
+    }
+
+    /**
+     * Builds the histogram of the non-null elements sequentially.
+     */
+    private static Map<Long, Long> expectedHistogram(List<Integer> elements, long bucketWidth) {
+        Map<Long, Long> histogram = new TreeMap<>();
+        for (Integer element : elements) {
+            if (element != null) {
+                histogram.merge(Math.floorDiv(element, bucketWidth) * bucketWidth, 1L, Long::sum);
+            }
+        }
+        return histogram;
+    }
+}
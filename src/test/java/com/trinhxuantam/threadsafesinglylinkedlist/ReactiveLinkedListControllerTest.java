@@ -0,0 +1,186 @@
+package com.trinhxuantam.threadsafesinglylinkedlist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.trinhxuantam.threadsafesinglylinkedlist.config.LinkedListProperties;
+import com.trinhxuantam.threadsafesinglylinkedlist.config.ReactiveExceptionHandler;
+import com.trinhxuantam.threadsafesinglylinkedlist.controllers.ReactiveLinkedListController;
+import com.trinhxuantam.threadsafesinglylinkedlist.services.LinkedListService;
+import com.trinhxuantam.threadsafesinglylinkedlist.utils.collections.ListStrategy;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Tests of the {@link ReactiveLinkedListController}, checking the NDJSON
+ * stream of the elements, and of the {@link ReactiveExceptionHandler}.
+ */
+public class ReactiveLinkedListControllerTest {
+
+    private LinkedListService<Integer> service;
+
+    private ReactiveLinkedListController controller;
+
+    /**
+     * Set up the test environment. This method wires a new controller to a new
+     * service before each test method is executed.
+     */
+    @BeforeEach
+    public void setUp() {
+        service = new LinkedListService<>();
+        controller = new ReactiveLinkedListController();
+        ReflectionTestUtils.setField(controller, "service", service);
+    }
+
+    /**
+     * Tests that every element, null included, is streamed as one NDJSON line,
+     * in list order.
+     */
+    @Test
+    public void testStreamAllElements() {
+        List<String> expected = new ArrayList<>();
+        for (int i = -10_000; i < 10_000; i++) {
+            service.append(i);
+            expected.add(String.valueOf(i));
+        }
+        service.append(null);
+        service.append(Integer.MIN_VALUE);
+        service.append(Integer.MAX_VALUE);
+        expected.addAll(List.of("null", "-2147483648", "2147483647"));
+
+        String body = controller.getAllElements(new MockServerHttpResponse()).getBody()
+                .map(buffer -> buffer.toString(StandardCharsets.UTF_8))
+                .collect(Collectors.joining())
+                .block();
+        assertEquals(String.join("\n", expected) + "\n", body);
+    }
+
+    /**
+     * Tests that the elements are encoded in chunks, one buffer for many
+     * elements, rather than one buffer per element, and that buffers are not
+     * larger than their content.
+     */
+    @Test
+    public void testStreamIsChunked() {
+        for (int i = 0; i < 20_000; i++) {
+            service.append(i);
+        }
+
+        List<DataBuffer> buffers = controller.getAllElements(new MockServerHttpResponse()).getBody()
+                .collectList().block();
+        assertEquals(3, buffers.size());
+        assertEquals(8192, buffers.get(0).toString(StandardCharsets.UTF_8).lines().count());
+        assertEquals(3616, buffers.get(2).toString(StandardCharsets.UTF_8).lines().count());
+
+        service.removeAll(service.getAllElements());
+        assertEquals(List.of(),
+                controller.getAllElements(new MockServerHttpResponse()).getBody().collectList().block());
+
+        // A short list takes a single buffer of the size of its lines
+        for (int i = 0; i < 10; i++) {
+            service.append(i);
+        }
+        buffers = controller.getAllElements(new MockServerHttpResponse()).getBody().collectList().block();
+        assertEquals(1, buffers.size());
+        assertEquals(20, buffers.get(0).readableByteCount());
+        assertEquals(20, buffers.get(0).capacity());
+    }
+
+    /**
+     * Tests that the stream traverses the list off the calling thread, and that
+     * it returns every element present throughout while another thread writes to
+     * a list whose reads may wait on its lock.
+     *
+     * @throws InterruptedException if the current thread is interrupted while
+     *                              waiting for the writer
+     */
+    @Test
+    public void testStreamWhileWriting() throws InterruptedException {
+        LinkedListProperties properties = new LinkedListProperties();
+        properties.setStrategy(ListStrategy.STAMPED_LOCK);
+        ReflectionTestUtils.setField(service, "properties", properties);
+        service.init();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            service.append(i);
+            expected.add(String.valueOf(i));
+        }
+
+        AtomicBoolean writing = new AtomicBoolean(true);
+        Thread writer = new Thread(() -> {
+            for (int i = 0; writing.get(); i++) {
+                service.insertAfter(-1, i % 20_000);
+                service.remove(-1);
+            }
+        });
+        writer.start();
+        try {
+            Set<String> threads = ConcurrentHashMap.newKeySet();
+            for (int round = 0; round < 5; round++) {
+                String body = controller.getAllElements(new MockServerHttpResponse()).getBody()
+                        .doOnNext(buffer -> threads.add(Thread.currentThread().getName()))
+                        .map(buffer -> buffer.toString(StandardCharsets.UTF_8))
+                        .collect(Collectors.joining())
+                        .block();
+                assertEquals(expected, body.lines().filter(line -> !line.equals("-1")).toList());
+            }
+            assertTrue(threads.stream().allMatch(name -> name.startsWith("boundedElastic")),
+                    "The list is traversed on the bounded elastic scheduler, not on " + threads);
+        } finally {
+            writing.set(false);
+            writer.join();
+            service.destroy();
+        }
+    }
+
+    /**
+     * Tests that an unexpected exception of a reactive controller is mapped to an
+     * internal server error with the same body as on the servlet stack.
+     */
+    @Test
+    public void testUnexpectedExceptionIsInternalServerError() {
+        WebTestClient client = WebTestClient.bindToController(new FailingController())
+                .controllerAdvice(new ReactiveExceptionHandler())
+                .build();
+
+        client.get().uri("/fail").exchange()
+                .expectStatus().isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR)
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Internal server error")
+                .jsonPath("$.detail").isEqualTo("Unexpected failure");
+    }
+
+    /**
+     * A controller failing with an exception that has no dedicated handler.
+     */
+    @RestController
+    static class FailingController {
+        /**
+         * Fails with an unsupported operation.
+         * 
+         * @return Never returns
+         */
+        @GetMapping("/fail")
+        public Mono<Void> fail() {
+            return Mono.error(new UnsupportedOperationException("Unexpected failure"));
+        }
+    }
+}
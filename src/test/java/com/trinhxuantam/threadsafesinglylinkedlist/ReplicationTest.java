@@ -0,0 +1,305 @@
+package com.trinhxuantam.threadsafesinglylinkedlist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.trinhxuantam.threadsafesinglylinkedlist.config.ReplicationProperties;
+import com.trinhxuantam.threadsafesinglylinkedlist.services.LinkedListService;
+import com.trinhxuantam.threadsafesinglylinkedlist.utils.replication.ElementCodec;
+import com.trinhxuantam.threadsafesinglylinkedlist.utils.replication.Operation;
+import com.trinhxuantam.threadsafesinglylinkedlist.utils.replication.OperationLog;
+import com.trinhxuantam.threadsafesinglylinkedlist.utils.replication.ReplicationFollower;
+import com.trinhxuantam.threadsafesinglylinkedlist.utils.replication.ReplicationLeader;
+
+/**
+ * Tests the replication of the list from a leader to followers over a local
+ * TCP connection.
+ */
+public class ReplicationTest {
+
+    private static final long TIMEOUT_MILLIS = 10_000; // How long to wait for a follower to catch up
+
+    private LinkedListService<Integer> leaderService;
+
+    private OperationLog<Integer> log;
+
+    private ReplicationLeader<Integer> leader;
+
+    private LinkedListService<Integer> followerService;
+
+    private ReplicationFollower<Integer> follower;
+
+    private final AtomicInteger snapshots = new AtomicInteger(); // Snapshots loaded by the follower
+
+    /**
+     * Starts a leader with a small operation log on a free port.
+     *
+     * @throws IOException if the leader cannot bind its port
+     */
+    @BeforeEach
+    public void setUp() throws IOException {
+        log = new OperationLog<>(16);
+        leaderService = new LinkedListService<>();
+        ReflectionTestUtils.setField(leaderService, "log", log);
+        leader = new ReplicationLeader<>(log, leaderService::snapshot, ElementCodec.integers(), 0, 50);
+        leader.start();
+
+        followerService = new LinkedListService<>();
+        ReplicationProperties properties = new ReplicationProperties();
+        properties.setRole(ReplicationProperties.Role.FOLLOWER);
+        ReflectionTestUtils.setField(followerService, "replication", properties);
+    }
+
+    /**
+     * Stops the leader and the follower.
+     *
+     * @throws IOException if a socket cannot be closed
+     */
+    @AfterEach
+    public void tearDown() throws IOException {
+        if (follower != null) {
+            follower.close();
+        }
+        leader.close();
+    }
+
+    /**
+     * Tests that a follower loads the existing content and then replays the
+     * mutations applied on the leader.
+     *
+     * @throws InterruptedException if the current thread is interrupted while
+     *                              waiting.
+     */
+    @Test
+    public void testFollowerReplaysOperations() throws InterruptedException {
+        leaderService.append(1);
+        leaderService.append(2);
+        startFollower();
+        awaitInSync();
+
+        leaderService.append(3);
+        leaderService.insertAfter(10, 1);
+        leaderService.removeLast();
+        leaderService.append(null);
+        awaitInSync();
+
+        assertEquals(Arrays.asList(1, 10, 2, null), followerService.getAllElements());
+        ReplicationFollower.Status status = follower.getStatus();
+        assertTrue(status.connected());
+        assertEquals(log.lastSequence(), status.sequence());
+        assertTrue(status.stalenessMillis() >= 0, "A synchronized follower reports its staleness");
+    }
+
+    /**
+     * Tests that the staleness of a follower stays bounded while the leader keeps
+     * writing, although every heartbeat reports an operation the follower has not
+     * received yet. The leader is scripted so that this happens on every
+     * heartbeat.
+     *
+     * @throws Exception if the scripted leader fails or the current thread is
+     *                   interrupted
+     */
+    @Test
+    public void testStalenessUnderContinuousWrites() throws Exception {
+        ElementCodec<Integer> codec = ElementCodec.integers();
+        try (ServerSocket scripted = new ServerSocket(0)) {
+            follower = new ReplicationFollower<>("localhost", scripted.getLocalPort(), codec,
+                    followerService::applyReplicated, followerService::loadReplicated, 1000, 50);
+            follower.start();
+            try (Socket socket = scripted.accept();
+                    DataInputStream in = new DataInputStream(socket.getInputStream());
+                    DataOutputStream out = new DataOutputStream(socket.getOutputStream())) {
+                in.readLong(); // Epoch of the follower
+                in.readLong(); // Sequence of the follower
+
+                // An empty snapshot of epoch 1 at sequence 0
+                out.writeByte(1);
+                out.writeLong(1);
+                out.writeLong(System.currentTimeMillis());
+                out.writeLong(0);
+                out.writeInt(0);
+                for (long sequence = 1; sequence <= 50; sequence++) {
+                    // A push, followed by a heartbeat already reporting the next one
+                    out.writeByte(2);
+                    out.writeLong(sequence);
+                    out.writeLong(System.currentTimeMillis());
+                    out.writeByte(Operation.Type.PUSH.ordinal());
+                    codec.write(out, 1);
+                    codec.write(out, null);
+                    out.writeByte(3);
+                    out.writeLong(sequence + 1);
+                    out.writeLong(System.currentTimeMillis());
+                    out.flush();
+                    Thread.sleep(20);
+                }
+
+                long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+                while (follower.getStatus().sequence() != 50) {
+                    assertTrue(System.currentTimeMillis() < deadline, "The follower did not apply the operations");
+                    Thread.sleep(10);
+                }
+                long staleness = follower.getStatus().stalenessMillis();
+                assertTrue(staleness >= 0 && staleness < 500, "The staleness grew to " + staleness + " ms");
+            }
+        }
+    }
+
+    /**
+     * Tests that a follower replays single and bulk removals, including the
+     * removal of null elements.
+     *
+     * @throws InterruptedException if the current thread is interrupted while
+     *                              waiting.
+     */
+    @Test
+    public void testFollowerReplaysRemovals() throws InterruptedException {
+        for (Integer element : Arrays.asList(1, 2, null, 3, 2, 4)) {
+            leaderService.append(element);
+        }
+        startFollower();
+        awaitInSync();
+
+        leaderService.remove(1);
+        assertEquals(3, leaderService.removeAll(Arrays.asList(2, null, 7)));
+        assertThrowsExactly(NoSuchElementException.class, () -> leaderService.remove(7));
+        awaitInSync();
+
+        assertEquals(List.of(3, 4), followerService.getAllElements());
+    }
+
+    /**
+     * Tests that a follower reconnecting to a restarted leader resumes from its
+     * last applied operation when the log still retains the missing ones.
+     *
+     * @throws Exception if a socket cannot be closed or bound, or the thread is
+     *                   interrupted
+     */
+    @Test
+    public void testCatchUpFromSequence() throws Exception {
+        startFollower();
+        leaderService.append(0);
+        awaitInSync();
+
+        restartLeader(() -> {
+            for (int i = 1; i <= 10; i++) {
+                leaderService.append(i);
+            }
+        });
+        awaitInSync();
+
+        assertEquals(leaderService.getAllElements(), followerService.getAllElements());
+        assertEquals(1, snapshots.get(), "Only the initial snapshot is loaded");
+    }
+
+    /**
+     * Tests that a follower that missed more operations than the log retains
+     * catches up from a snapshot.
+     *
+     * @throws Exception if a socket cannot be closed or bound, or the thread is
+     *                   interrupted
+     */
+    @Test
+    public void testCatchUpFromSnapshot() throws Exception {
+        startFollower();
+        leaderService.append(0);
+        awaitInSync();
+
+        restartLeader(() -> {
+            for (int i = 1; i <= 100; i++) {
+                leaderService.append(i);
+            }
+        });
+        awaitInSync();
+
+        assertEquals(leaderService.getAllElements(), followerService.getAllElements());
+        assertEquals(2, snapshots.get(), "The follower catches up from a second snapshot");
+    }
+
+    /**
+     * Tests that a follower rejects mutations from clients.
+     */
+    @Test
+    public void testFollowerIsReadOnly() {
+        assertThrowsExactly(IllegalStateException.class, () -> followerService.append(1));
+        assertThrowsExactly(IllegalStateException.class, () -> followerService.removeLast());
+        assertEquals(List.of(), followerService.getAllElements());
+    }
+
+    /**
+     * Tests that closing the leader skips a follower connection that is already
+     * closed and still closes the others, releasing the port.
+     *
+     * @throws Exception if the leader cannot be closed or the port is not released
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCloseSkipsClosedConnections() throws Exception {
+        startFollower();
+        awaitInSync();
+        Socket closed = new Socket();
+        closed.close();
+        Set<Socket> connections = (Set<Socket>) ReflectionTestUtils.getField(leader, "connections");
+        connections.add(closed);
+
+        int port = leader.getPort();
+        leader.close();
+        try (ServerSocket rebound = new ServerSocket()) {
+            rebound.setReuseAddress(true);
+            rebound.bind(new InetSocketAddress(port));
+        }
+    }
+
+    /**
+     * Starts a follower of the leader, counting the snapshots it loads.
+     */
+    private void startFollower() {
+        follower = new ReplicationFollower<>("localhost", leader.getPort(), ElementCodec.integers(),
+                followerService::applyReplicated, snapshot -> {
+                    snapshots.incrementAndGet();
+                    followerService.loadReplicated(snapshot);
+                }, 1000, 50);
+        follower.start();
+    }
+
+    /**
+     * Stops the leader, runs the given mutations while the follower is
+     * disconnected and starts a new leader on the same port and log.
+     */
+    private void restartLeader(Runnable whileDown) throws IOException {
+        int port = leader.getPort();
+        leader.close();
+        whileDown.run();
+        leader = new ReplicationLeader<>(log, leaderService::snapshot, ElementCodec.integers(), port, 50);
+        leader.start();
+    }
+
+    /**
+     * Waits until the follower has applied every operation of the leader.
+     */
+    private void awaitInSync() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!followerService.getAllElements().equals(leaderService.getAllElements())
+                || follower.getStatus().sequence() != log.lastSequence()) {
+            assertTrue(System.currentTimeMillis() < deadline, "The follower did not catch up in time");
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.trinhxuantam.threadsafesinglylinkedlist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.trinhxuantam.threadsafesinglylinkedlist.utils.collections.ShardedLinkedList;
+import com.trinhxuantam.threadsafesinglylinkedlist.utils.collections.ShardedLinkedList.MergeOrder;
+
+/**
+ * Tests for the {@link ShardedLinkedList} that ensure the merged view honours
+ * the documented ordering guarantees.
+ */
+public class ShardedLinkedListTest {
+
+    /**
+     * Tests that elements pushed with different keys are read back in push order
+     * when merged by sequence.
+     */
+    @Test
+    public void testSequenceOrder() {
+        ShardedLinkedList<Integer> list = new ShardedLinkedList<>(4, MergeOrder.SEQUENCE);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            list.push(i, i);
+            expected.add(i);
+        }
+
+        assertEquals(expected, list.getAll());
+        assertEquals(100, list.size());
+    }
+
+    /**
+     * Tests that interleaved order reads the shards round-robin.
+     */
+    @Test
+    public void testInterleavedOrder() {
+        ShardedLinkedList<Integer> list = new ShardedLinkedList<>(2, MergeOrder.INTERLEAVED);
+        list.push(0, 1);
+        list.push(0, 2);
+        list.push(0, 3);
+        list.push(1, 10);
+        list.push(1, 20);
+
+        assertEquals(List.of(1, 10, 2, 20, 3), list.getAll());
+    }
+
+    /**
+     * Tests that an inserted element is read right after the element it follows,
+     * and that inserting after a missing element throws.
+     */
+    @Test
+    public void testInsertAfter() {
+        ShardedLinkedList<Integer> list = new ShardedLinkedList<>(3, MergeOrder.SEQUENCE);
+        for (int i = 1; i <= 5; i++) {
+            list.push(i, i);
+        }
+
+        list.insertAfter(10, 2);
+        list.insertAfter(11, 10);
+
+        assertEquals(List.of(1, 2, 10, 11, 3, 4, 5), list.getAll());
+        assertThrowsExactly(NoSuchElementException.class, () -> list.insertAfter(7, 42));
+    }
+
+    /**
+     * Tests that remove takes out the first occurrence in the merged view, null
+     * included, that removeAll and removeIf reach every shard, and that a null
+     * element is never found as the element to insert after.
+     */
+    @Test
+    public void testRemove() {
+        ShardedLinkedList<Integer> list = new ShardedLinkedList<>(3, MergeOrder.SEQUENCE);
+        for (int i = 1; i <= 6; i++) {
+            list.push(i, i);
+        }
+        list.push(4, 1);
+        list.push(5, null);
+
+        assertTrue(list.remove(1));
+        assertTrue(list.remove(null));
+        assertFalse(list.remove(42));
+        assertEquals(List.of(2, 3, 4, 5, 6, 1), list.getAll());
+        assertThrowsExactly(NoSuchElementException.class, () -> list.insertAfter(7, null));
+
+        assertEquals(2, list.removeAll(List.of(1, 5, 42)));
+        assertEquals(List.of(2, 3, 4, 6), list.getAll());
+
+        List<Integer> removed = new ArrayList<>();
+        assertEquals(3, list.removeIf(i -> i % 2 == 0, removed::add));
+        assertEquals(List.of(2, 4, 6), removed.stream().sorted().toList());
+        assertEquals(List.of(3), list.getAll());
+        assertEquals(1, list.size());
+    }
+
+    /**
+     * Tests that pop empties the calling thread's shard before the others and
+     * throws once every shard is empty.
+     */
+    @Test
+    public void testPop() {
+        ShardedLinkedList<Integer> list = new ShardedLinkedList<>(4, MergeOrder.SEQUENCE);
+        list.push(1);
+        list.push(2);
+        for (int key = 0; key < 4; key++) {
+            list.push(key, 100 + key);
+        }
+
+        assertEquals(100 + Math.floorMod(Long.hashCode(Thread.currentThread().getId()), 4), list.pop());
+        assertEquals(2, list.pop());
+        assertEquals(1, list.pop());
+        for (int i = 0; i < 3; i++) {
+            list.pop();
+        }
+        assertTrue(list.isEmpty());
+        assertThrowsExactly(IllegalStateException.class, () -> list.pop());
+    }
+
+    /**
+     * Tests that concurrent producers never lose an element and that each
+     * producer's elements are read back in the order it pushed them.
+     *
+     * @throws InterruptedException if the current thread is interrupted while
+     *                              waiting.
+     */
+    @Test
+    public void testConcurrentProducersKeepTheirOrder() throws InterruptedException {
+        for (MergeOrder order : MergeOrder.values()) {
+            ShardedLinkedList<Integer> list = new ShardedLinkedList<>(4, order);
+            int producers = 8;
+            int perProducer = 2000;
+            ExecutorService executor = Executors.newFixedThreadPool(producers);
+            CountDownLatch latch = new CountDownLatch(producers);
+            for (int p = 0; p < producers; p++) {
+                final int producer = p;
+                executor.execute(() -> {
+                    for (int i = 0; i < perProducer; i++) {
+                        list.push(producer * perProducer + i);
+                    }
+                    latch.countDown();
+                });
+            }
+            assertTrue(latch.await(45, TimeUnit.SECONDS), "Producers did not finish in time");
+            executor.shutdown();
+
+            List<Integer> all = list.getAll();
+            assertEquals(producers * perProducer, all.size());
+            assertEquals(producers * perProducer, list.size());
+            int[] last = new int[producers];
+            Arrays.fill(last, -1);
+            for (int element : all) {
+                int producer = element / perProducer;
+                assertTrue(element > last[producer], "Producer " + producer + " order broken in " + order);
+                last[producer] = element;
+            }
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package com.trinhxuantam.threadsafesinglylinkedlist;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -125,4 +128,67 @@ public class SinglyLinkedListTest {
         list.pop();
         assertEquals(1, list.size());
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests the {@code remove} method to ensure it removes only the first
+     * occurrence of an element, including at the ends of the list.
+     */
+    @Test
+    public void testRemove() {
+        for (Integer integer : Arrays.asList(1, 2, 3, 2, 4)) {
+            list.push(integer);
+        }
+
+        assertTrue(list.remove(2));
+        assertEquals(Arrays.asList(1, 3, 2, 4), list.getAll());
+        assertTrue(list.remove(1));
+        assertTrue(list.remove(4));
+        assertEquals(Arrays.asList(3, 2), list.getAll());
+        assertFalse(list.remove(10));
+        assertEquals(2, list.size());
+
+        // The tail is still usable after removing the last node
+        list.push(5);
+        assertEquals(Arrays.asList(3, 2, 5), list.getAll());
+    }
+
+    /**
+     * Tests the {@code removeAll} method to ensure it removes every occurrence of
+     * the given elements, null included, and keeps the size consistent.
+     */
+    @Test
+    public void testRemoveAll() {
+        for (Integer integer : Arrays.asList(1, 2, null, 2, 3, 1, 4)) {
+            list.push(integer);
+        }
+
+        assertEquals(5, list.removeAll(Arrays.asList(1, 2, null, 7)));
+        assertEquals(List.of(3, 4), list.getAll());
+        assertEquals(2, list.size());
+        assertEquals(0, list.removeAll(List.of()));
+        assertEquals(2, list.removeAll(Set.of(3, 4)));
+        assertTrue(list.isEmpty());
+        assertThrowsExactly(IllegalStateException.class, () -> list.pop());
+    }
+
+    /**
+     * Tests the {@code removeIf} method to ensure it removes the matching runs of
+     * consecutive elements and leaves the list usable for the other operations.
+     */
+    @Test
+    public void testRemoveIf() {
+        for (int i = 0; i < 10; i++) {
+            list.push(i);
+        }
+
+        assertEquals(6, list.removeIf(i -> i < 3 || i == 5 || i > 7));
+        assertEquals(List.of(3, 4, 6, 7), list.getAll());
+        assertEquals(4, list.size());
+
+        list.insertAfter(10, 7);
+        list.push(11);
+        assertEquals(11, list.pop());
+        assertEquals(List.of(3, 4, 6, 7, 10), list.getAll());
+        assertEquals(0, list.removeIf(i -> i > 100));
+    }
+}
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.lang.management.ManagementFactory;
 import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
@@ -195,4 +196,91 @@ public class SinglyLinkedListThreadSafetyTest {
                 "Check the list size matches the expected number after insertions.");
         awaitTerminationAfterShutdown();
     }
+
+    /**
+     * Tests the thread safety of the removeIf method by removing the even
+     * elements while other threads keep pushing.
+     * Verifies that no pushed element is lost and that the size stays consistent
+     * with the content of the list.
+     *
+     * @throws InterruptedException if the current thread is interrupted while
+     *                              waiting.
+     */
+    @Test
+    public void testConcurrentRemoveIfAndPush() throws InterruptedException {
+        int numPushes = 3000;
+        int numRemovals = 100;
+        CountDownLatch latch = new CountDownLatch(numPushes + numRemovals);
+
+        for (int i = 0; i < numPushes; i++) {
+            final int element = i;
+            executor.execute(() -> {
+                list.push(element);
+                latch.countDown();
+            });
+            if (i % (numPushes / numRemovals) == 0) {
+                executor.execute(() -> {
+                    list.removeIf(value -> value % 2 == 0);
+                    latch.countDown();
+                });
+            }
+        }
+        try {
+            latch.await(45, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            assertNoDeadlocks();
+        }
+        list.removeIf(value -> value % 2 == 0);
+
+        List<Integer> remaining = list.getAll();
+        assertEquals(numPushes / 2, remaining.size(), "Check that every odd element is still in the list");
+        assertTrue(remaining.stream().allMatch(value -> value % 2 == 1), "Check that no even element remains");
+        assertEquals(remaining.size(), list.size(), "Check the size matches the content of the list");
+        awaitTerminationAfterShutdown();
+    }
+
+    /**
+     * Tests the thread safety of the remove method by removing elements while
+     * other threads insert after their neighbours.
+     * Verifies that each insertion lands after its reference element and that no
+     * insertion is lost to a concurrent removal.
+     *
+     * @throws InterruptedException if the current thread is interrupted while
+     *                              waiting.
+     */
+    @Test
+    public void testConcurrentRemoveAndInsertAfter() throws InterruptedException {
+        int initialSize = 1000;
+        CountDownLatch latch = new CountDownLatch(initialSize);
+        for (int i = 0; i < initialSize; i++) {
+            list.push(i);
+        }
+
+        // Remove the even elements and insert after the odd ones
+        for (int i = 0; i < initialSize; i++) {
+            final int element = i;
+            executor.execute(() -> {
+                if (element % 2 == 0) {
+                    list.remove(element);
+                } else {
+                    list.insertAfter(element + initialSize, element);
+                }
+                latch.countDown();
+            });
+        }
+        try {
+            latch.await(45, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            assertNoDeadlocks();
+        }
+
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 1; i < initialSize; i += 2) {
+            expected.add(i);
+            expected.add(i + initialSize);
+        }
+        assertEquals(expected, list.getAll(), "Check the content of the list matches expected");
+        assertEquals(expected.size(), list.size(), "Check the size matches the content of the list");
+        awaitTerminationAfterShutdown();
+    }
 }
@@ -0,0 +1,176 @@
+package com.trinhxuantam.threadsafesinglylinkedlist.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.trinhxuantam.threadsafesinglylinkedlist.utils.collections.ConcurrentList;
+import com.trinhxuantam.threadsafesinglylinkedlist.utils.collections.ListStrategy;
+
+/**
+ * Compares the throughput of every {@link ListStrategy} under read-heavy, mixed
+ * and write-heavy workloads. Only runs with the {@code benchmark} Maven
+ * profile, e.g. {@code mvn test -Pbenchmark -Dbenchmark.threads=8}; the results
+ * are printed and written to {@code target/benchmark/lists.csv}.
+ * <p>
+ * Settings, as system properties: {@code benchmark.threads} (default: the
+ * number of processors), {@code benchmark.size} (elements in the list, default
+ * 1000), {@code benchmark.warmup} and {@code benchmark.duration} (seconds,
+ * default 1 and 3).
+ */
+@Tag("benchmark")
+public class ConcurrentListBenchmarkTest {
+
+    /**
+     * The operations of a workload.
+     */
+    private enum Operation {
+        READ, PUSH, POP, INSERT_AFTER, REMOVE
+    }
+
+    /**
+     * The workloads, as weights of {@code READ}, {@code PUSH}, {@code POP},
+     * {@code INSERT_AFTER} and {@code REMOVE}. Pushes and pops are balanced so
+     * that the size of the list stays around its initial value.
+     */
+    private enum Workload {
+        READ_HEAVY(90, 4, 4, 1, 1),
+        MIXED(50, 20, 20, 5, 5),
+        WRITE_HEAVY(10, 40, 40, 5, 5);
+
+        private final Operation[] draws = new Operation[100]; // Operations drawn from, by weight
+
+        /**
+         * Constructs a workload from the weights of the operations, in percent.
+         */
+        Workload(int... weights) {
+            int index = 0;
+            for (Operation operation : Operation.values()) {
+                for (int i = 0; i < weights[operation.ordinal()]; i++) {
+                    draws[index++] = operation;
+                }
+            }
+        }
+    }
+
+    private final int threads = Integer.getInteger("benchmark.threads", Runtime.getRuntime().availableProcessors());
+
+    private final int size = Integer.getInteger("benchmark.size", 1000);
+
+    private final long warmupMillis = Long.getLong("benchmark.warmup", 1) * 1000;
+
+    private final long durationMillis = Long.getLong("benchmark.duration", 3) * 1000;
+
+    private final LongAdder sink = new LongAdder(); // Consumes the results so that reads are not optimized away
+
+    /**
+     * Runs every workload against every strategy and reports the throughputs.
+     *
+     * @throws Exception if a thread is interrupted or the results cannot be
+     *                   written
+     */
+    @Test
+    public void testCompareStrategies() throws Exception {
+        List<String> rows = new ArrayList<>();
+        rows.add("workload,strategy,threads,size,ops_per_second");
+        System.out.printf("%-12s %-15s %15s%n", "workload", "strategy", "ops/s");
+        for (Workload workload : Workload.values()) {
+            for (ListStrategy strategy : ListStrategy.values()) {
+                double throughput = measure(strategy, workload);
+                assertTrue(throughput > 0, "No operation completed for " + strategy + " " + workload);
+                System.out.printf(Locale.ROOT, "%-12s %-15s %,15.0f%n", workload, strategy, throughput);
+                rows.add(String.format(Locale.ROOT, "%s,%s,%d,%d,%.0f", workload, strategy, threads, size,
+                        throughput));
+            }
+        }
+        write(Path.of("target", "benchmark", "lists.csv"), rows);
+    }
+
+    /**
+     * Runs a workload against a fresh list of a strategy and returns the measured
+     * operations per second.
+     */
+    private double measure(ListStrategy strategy, Workload workload) throws InterruptedException {
+        ConcurrentList<Integer> list = strategy.create();
+        for (int i = 0; i < size; i++) {
+            list.push(i);
+        }
+
+        LongAdder operations = new LongAdder();
+        long start = System.currentTimeMillis();
+        long measureFrom = start + warmupMillis;
+        long end = measureFrom + durationMillis;
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long blackhole = 0;
+                long now;
+                while ((now = System.currentTimeMillis()) < end) {
+                    blackhole += execute(list, workload.draws[random.nextInt(100)], random.nextInt(size));
+                    if (now >= measureFrom) {
+                        operations.increment();
+                    }
+                }
+                sink.add(blackhole);
+            }, "benchmark-" + t);
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return operations.sum() * 1000.0 / durationMillis;
+    }
+
+    /**
+     * Executes one operation and returns a value derived from its result, so that
+     * reads are not optimized away.
+     */
+    private static long execute(ConcurrentList<Integer> list, Operation operation, int value) {
+        try {
+            switch (operation) {
+                case READ -> {
+                    long sum = 0;
+                    for (Integer element : list) {
+                        sum += element;
+                    }
+                    return sum;
+                }
+                case PUSH -> list.push(value);
+                case POP -> {
+                    return list.pop();
+                }
+                case INSERT_AFTER -> list.insertAfter(value, value / 2);
+                case REMOVE -> {
+                    return list.remove(value) ? 1 : 0;
+                }
+            }
+        } catch (NoSuchElementException | IllegalStateException e) {
+            // The reference element is missing or the list is empty, which counts as an operation
+        }
+        return 0;
+    }
+
+    /**
+     * Writes the result rows as a CSV file.
+     */
+    private static void write(Path file, List<String> rows) throws IOException {
+        Files.createDirectories(file.getParent());
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file))) {
+            rows.forEach(writer::println);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.trinhxuantam.threadsafesinglylinkedlist.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.trinhxuantam.threadsafesinglylinkedlist.ThreadSafeSinglyLinkedListApplication;
+import com.trinhxuantam.threadsafesinglylinkedlist.services.LinkedListService;
+
+/**
+ * Compares reading large lists from the servlet endpoint, which builds the
+ * whole list and its JSON before answering, with the reactive NDJSON endpoint,
+ * which streams the list as it traverses it. Boots the application twice in
+ * this JVM, once on Tomcat and once on Netty, and fills both with the same
+ * elements. Only runs with the {@code benchmark} Maven profile; the results are
+ * printed and written to {@code target/benchmark/reactive.csv}.
+ * <p>
+ * For every list size it reports the throughput, the mean time to the first
+ * byte and to the complete response, the bytes allocated per request and the
+ * peak heap usage, and fails if the reactive endpoint serves less than half as
+ * many requests per second as the servlet one. Allocations are counted over all threads of the JVM, so they
+ * include the client, which does the same work for both endpoints.
+ * <p>
+ * Settings, as system properties: {@code benchmark.listSizes} (comma separated,
+ * default {@code 10000,1000000}), {@code benchmark.requests} (per size and
+ * endpoint, default 20) and {@code benchmark.clients} (concurrent requests,
+ * default 4).
+ */
+@Tag("benchmark")
+public class ReactiveStreamingBenchmarkTest {
+
+    /**
+     * The measurements of one endpoint for one list size.
+     *
+     * @param requestsPerSecond   completed requests per second
+     * @param megabytesPerSecond  response bytes received per second, in MB
+     * @param firstByteMillis     mean time to the first byte of the body
+     * @param completeMillis      mean time to the complete response
+     * @param allocatedPerRequest bytes allocated by the JVM per request
+     * @param peakHeapMegabytes   peak heap usage during the run, in MB
+     */
+    private record Result(double requestsPerSecond, double megabytesPerSecond, double firstByteMillis,
+            double completeMillis, long allocatedPerRequest, long peakHeapMegabytes) {
+    }
+
+    private final int[] listSizes = Arrays.stream(System.getProperty("benchmark.listSizes", "10000,1000000")
+            .split(",")).mapToInt(size -> Integer.parseInt(size.trim())).sorted().toArray();
+
+    private final int requests = Integer.getInteger("benchmark.requests", 20);
+
+    private final int clients = Integer.getInteger("benchmark.clients", 4);
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    /**
+     * Measures both endpoints for every list size and reports the results.
+     *
+     * @throws Exception if an application fails to start, a request fails or
+     *                   the results cannot be written
+     */
+    @Test
+    public void testCompareServletAndReactive() throws Exception {
+        List<String> rows = new ArrayList<>();
+        rows.add("size,endpoint,requests_per_second,mb_per_second,first_byte_ms,complete_ms,"
+                + "allocated_bytes_per_request,peak_heap_mb");
+        System.out.printf("%10s %-8s %10s %10s %12s %12s %16s %10s%n", "size", "endpoint", "req/s", "MB/s",
+                "first byte", "complete", "alloc/request", "peak heap");
+
+        try (ConfigurableApplicationContext servlet = start(WebApplicationType.SERVLET);
+                ConfigurableApplicationContext reactive = start(WebApplicationType.REACTIVE)) {
+            URI servletUri = uri(servlet, "/api/linkedlist/all");
+            URI reactiveUri = uri(reactive, "/api/reactive/linkedlist/all");
+            int filled = 0;
+            for (int size : listSizes) {
+                fill(servlet, filled, size);
+                fill(reactive, filled, size);
+                filled = size;
+
+                Result servletResult = null;
+                for (String endpoint : List.of("servlet", "reactive")) {
+                    Result result = measure(endpoint.equals("servlet") ? servletUri : reactiveUri);
+                    System.out.printf(Locale.ROOT, "%,10d %-8s %,10.1f %,10.1f %10.1fms %10.1fms %,16d %8dMB%n",
+                            size, endpoint, result.requestsPerSecond(), result.megabytesPerSecond(),
+                            result.firstByteMillis(), result.completeMillis(), result.allocatedPerRequest(),
+                            result.peakHeapMegabytes());
+                    rows.add(String.format(Locale.ROOT, "%d,%s,%.1f,%.1f,%.2f,%.2f,%d,%d", size, endpoint,
+                            result.requestsPerSecond(), result.megabytesPerSecond(), result.firstByteMillis(),
+                            result.completeMillis(), result.allocatedPerRequest(), result.peakHeapMegabytes()));
+                    if (servletResult == null) {
+                        servletResult = result;
+                    } else {
+                        // Streaming bounds the memory of a response, which may cost some throughput, not half of it
+                        assertTrue(result.requestsPerSecond() >= servletResult.requestsPerSecond() / 2,
+                                "The reactive endpoint is less than half as fast as the servlet one");
+                    }
+                }
+            }
+        }
+        write(Path.of("target", "benchmark", "reactive.csv"), rows);
+    }
+
+    /**
+     * Starts the application on a free port with the given web stack.
+     */
+    private static ConfigurableApplicationContext start(WebApplicationType type) {
+        return new SpringApplicationBuilder(ThreadSafeSinglyLinkedListApplication.class)
+                .web(type)
+                .properties("server.port=0", "spring.devtools.restart.enabled=false")
+                .run();
+    }
+
+    /**
+     * Returns the URI of a path of a started application.
+     */
+    private static URI uri(ConfigurableApplicationContext context, String path) {
+        return URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port") + path);
+    }
+
+    /**
+     * Grows the list of an application from one size to another.
+     */
+    @SuppressWarnings("unchecked")
+    private static void fill(ConfigurableApplicationContext context, int from, int to) {
+        LinkedListService<Integer> service = context.getBean(LinkedListService.class);
+        for (int i = from; i < to; i++) {
+            service.append(i);
+        }
+    }
+
+    /**
+     * Sends the configured number of requests to an endpoint from concurrent
+     * clients, after two warm-up requests.
+     */
+    private Result measure(URI uri) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+        for (int i = 0; i < 2; i++) {
+            read(request, new LongAdder());
+        }
+
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP).toList();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        LongAdder bytes = new LongAdder();
+        LongAdder firstByteNanos = new LongAdder();
+        LongAdder completeNanos = new LongAdder();
+
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        try {
+            long allocatedBefore = allocatedBytes();
+            long start = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                futures.add(executor.submit(() -> {
+                    long sent = System.nanoTime();
+                    long firstByte = read(request, bytes);
+                    firstByteNanos.add(firstByte - sent);
+                    completeNanos.add(System.nanoTime() - sent);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            // Measured before the client threads end, as the counters of ended threads are lost
+            long allocated = allocatedBytes() - allocatedBefore;
+            long peakHeap = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+
+            return new Result(requests / seconds, bytes.sum() / seconds / 1e6,
+                    firstByteNanos.sum() / 1e6 / requests, completeNanos.sum() / 1e6 / requests,
+                    allocated / requests, peakHeap >> 20);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Sends a request and reads the whole response body.
+     *
+     * @return the time the first byte of the body was received, from
+     *         {@link System#nanoTime()}
+     */
+    private long read(HttpRequest request, LongAdder bytes) throws IOException, InterruptedException {
+        HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        try (InputStream body = response.body()) {
+            assertEquals(200, response.statusCode(), "Unexpected response status");
+            byte[] buffer = new byte[64 * 1024];
+            long firstByte = 0;
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                if (firstByte == 0) {
+                    firstByte = System.nanoTime();
+                }
+                bytes.add(read);
+            }
+            return firstByte;
+        }
+    }
+
+    /**
+     * Returns the bytes allocated so far by the live threads of the JVM.
+     */
+    private static long allocatedBytes() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+                .getThreadMXBean();
+        long total = 0;
+        for (long allocated : threads.getThreadAllocatedBytes(threads.getAllThreadIds())) {
+            if (allocated > 0) {
+                total += allocated;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Writes the result rows as a CSV file.
+     */
+    private static void write(Path file, List<String> rows) throws IOException {
+        Files.createDirectories(file.getParent());
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file))) {
+            rows.forEach(writer::println);
+        }
+    }
+}
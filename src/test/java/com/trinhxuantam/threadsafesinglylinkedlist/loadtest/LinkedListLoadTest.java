@@ -0,0 +1,42 @@
+package com.trinhxuantam.threadsafesinglylinkedlist.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+/**
+ * Boots the application on a random port and drives the linked list endpoints
+ * with the {@link LoadGenerator}. Only runs with the {@code loadtest} Maven
+ * profile; the reports are written to {@code target/loadtest}.
+ */
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class LinkedListLoadTest {
+
+    @LocalServerPort
+    private int port; // Port the application listens on
+
+    /**
+     * Runs the configured load and checks that every request got an expected
+     * response.
+     *
+     * @throws Exception if the run fails or the report cannot be written
+     */
+    @Test
+    public void testLoad() throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        URI target = URI.create("http://localhost:" + port + "/api/linkedlist/");
+
+        LoadReport report = new LoadGenerator(settings, target).run();
+        report.write(settings, System.out);
+
+        assertTrue(report.getTotalCount() > 0, "No request completed during the measured period");
+        assertEquals(0, report.getErrors(), "Unexpected responses or failed requests");
+    }
+}
@@ -0,0 +1,201 @@
+package com.trinhxuantam.threadsafesinglylinkedlist.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * HTTP load generator for the linked list API.
+ * <p>
+ * Drives a weighted mix of {@code add}, {@code insertAfter}, {@code pop} and
+ * {@code all} requests with the JDK HTTP client, either in a closed loop (each
+ * client waits for its response before sending the next request) or in an open
+ * loop (requests are sent at a fixed rate and latency is measured from the
+ * intended send time). Latencies of the warm-up period are discarded.
+ */
+public class LoadGenerator {
+
+    private final LoadTestSettings settings; // Settings of the run
+
+    private final URI baseUri; // URI of the linked list API, ending with a slash
+
+    private final Operation[] operations; // Operations present in the mix
+
+    private final int[] cumulativeWeights; // Cumulative weights, aligned with operations
+
+    private final ExecutorService executor; // Threads of the clients and of the HTTP client
+
+    private final HttpClient client; // Shared HTTP client
+
+    /**
+     * Creates a load generator targeting the given API.
+     *
+     * @param settings the settings of the run
+     * @param baseUri  the URI of the linked list API, e.g.
+     *                 {@code http://localhost:8080/api/linkedlist/}
+     */
+    public LoadGenerator(LoadTestSettings settings, URI baseUri) {
+        this.settings = settings;
+        this.baseUri = baseUri.toString().endsWith("/") ? baseUri : URI.create(baseUri + "/");
+
+        List<Operation> mixed = new ArrayList<>();
+        List<Integer> weights = new ArrayList<>();
+        int sum = 0;
+        for (Map.Entry<Operation, Integer> entry : settings.getMix().entrySet()) {
+            if (entry.getValue() > 0) {
+                sum += entry.getValue();
+                mixed.add(entry.getKey());
+                weights.add(sum);
+            }
+        }
+        this.operations = mixed.toArray(new Operation[0]);
+        this.cumulativeWeights = weights.stream().mapToInt(Integer::intValue).toArray();
+
+        this.executor = Executors.newFixedThreadPool(settings.getClients());
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(executor)
+                .build();
+    }
+
+    /**
+     * Runs the warm-up and the measured period and returns the collected
+     * latencies.
+     *
+     * @return the report of the measured period
+     * @throws InterruptedException if the calling thread is interrupted
+     */
+    public LoadReport run() throws InterruptedException {
+        try {
+            // Warm up the server and the connections, then measure into a fresh report
+            execute(new LoadReport(List.of(operations)), settings.getWarmup());
+            LoadReport report = new LoadReport(List.of(operations));
+            report.start();
+            execute(report, settings.getDuration());
+            report.stop();
+            return report;
+        } finally {
+            executor.shutdownNow();
+            executor.awaitTermination(30, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Issues requests for the given period in the configured mode.
+     */
+    private void execute(LoadReport report, Duration period) throws InterruptedException {
+        if (period.isZero()) {
+            return;
+        }
+        long deadline = System.nanoTime() + period.toNanos();
+        if (settings.getMode() == LoadTestSettings.Mode.OPEN) {
+            openLoop(report, deadline);
+        } else {
+            closedLoop(report, deadline);
+        }
+    }
+
+    /**
+     * Every client thread sends a request, waits for the response and records its
+     * service time, until the deadline.
+     */
+    private void closedLoop(LoadReport report, long deadline) throws InterruptedException {
+        Thread[] clients = new Thread[settings.getClients()];
+        for (int i = 0; i < clients.length; i++) {
+            clients[i] = new Thread(() -> {
+                while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                    Operation operation = nextOperation();
+                    HttpRequest request = operation.request(baseUri, settings.getValueRange());
+                    long start = System.nanoTime();
+                    int status;
+                    try {
+                        status = client.send(request, BodyHandlers.discarding()).statusCode();
+                    } catch (IOException e) {
+                        status = -1;
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    report.record(operation, status, System.nanoTime() - start);
+                }
+            }, "load-client-" + i);
+            clients[i].start();
+        }
+        for (Thread thread : clients) {
+            thread.join();
+        }
+    }
+
+    /**
+     * Sends requests asynchronously on a fixed schedule until the deadline. The
+     * latency of a request is measured from its scheduled send time, so a server
+     * that stalls is charged for every request that should have been sent during
+     * the stall.
+     */
+    private void openLoop(LoadReport report, long deadline) throws InterruptedException {
+        long interval = TimeUnit.SECONDS.toNanos(1) / Math.max(settings.getRate(), 1);
+        Semaphore inFlight = new Semaphore(settings.getMaxInFlight());
+        long intended = System.nanoTime();
+        while (intended < deadline) {
+            long delay = intended - System.nanoTime();
+            if (delay > 0) {
+                LockSupport.parkNanos(delay);
+                continue;
+            }
+            // Waiting for a permit delays sending, which is then charged to the latency
+            inFlight.acquire();
+            Operation operation = nextOperation();
+            long scheduled = intended;
+            client.sendAsync(operation.request(baseUri, settings.getValueRange()), BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        report.record(operation, failure == null ? response.statusCode() : -1,
+                                System.nanoTime() - scheduled);
+                        inFlight.release();
+                    });
+            intended += interval;
+        }
+        // Let the outstanding requests complete before the period ends
+        inFlight.acquire(settings.getMaxInFlight());
+        inFlight.release(settings.getMaxInFlight());
+    }
+
+    /**
+     * Picks the next operation at random according to the mix weights.
+     */
+    private Operation nextOperation() {
+        int pick = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    /**
+     * Runs the load generator against an already running instance, e.g.
+     * {@code java -cp ... LoadGenerator http://localhost:8080/api/linkedlist/}.
+     *
+     * @param args the base URI of the linked list API
+     * @throws Exception if the run fails or the report cannot be written
+     */
+    public static void main(String[] args) throws Exception {
+        URI target = URI.create(args.length > 0 ? args[0] : "http://localhost:8080/api/linkedlist/");
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        LoadReport report = new LoadGenerator(settings, target).run();
+        report.write(settings, System.out);
+    }
+}
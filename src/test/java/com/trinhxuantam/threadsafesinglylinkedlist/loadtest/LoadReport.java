@@ -0,0 +1,250 @@
+package com.trinhxuantam.threadsafesinglylinkedlist.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.AbstractHistogram;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+
+/**
+ * Collects the latencies of a load test run in one HdrHistogram per operation
+ * and writes the reports of the run.
+ * <p>
+ * Latencies are recorded in nanoseconds and reported in microseconds. The
+ * {@code summary.csv} file has a stable layout so that two runs can be compared
+ * by passing the summary of the earlier one as {@code loadtest.baseline}; the
+ * {@code latency.hlog} file holds the full histograms for the HdrHistogram
+ * tooling and the {@code <operation>.hgrm} files their percentile
+ * distributions.
+ */
+public class LoadReport {
+
+    private static final double NANOS_PER_MICRO = 1000.0; // Reporting unit scaling
+
+    private static final String CSV_HEADER = "operation,count,ok,rejected,errors,throughput_per_s,mean_us,p50_us,p90_us,p99_us,p99_9_us,max_us";
+
+    /**
+     * Latencies and outcome counters of a single operation.
+     */
+    private static class Stats {
+        private final ConcurrentHistogram latencies = new ConcurrentHistogram(3); // Auto-resizing, 3 digits
+
+        private final LongAdder ok = new LongAdder(); // 2xx responses
+
+        private final LongAdder rejected = new LongAdder(); // Expected 4xx responses
+
+        private final LongAdder errors = new LongAdder(); // Unexpected statuses and I/O failures
+    }
+
+    private final Map<Operation, Stats> stats = new EnumMap<>(Operation.class); // Stats per operation
+
+    private long startMillis; // Wall clock start of the measured period
+
+    private long endMillis; // Wall clock end of the measured period
+
+    /**
+     * Creates an empty report for the given operations.
+     *
+     * @param operations the operations that will be recorded
+     */
+    public LoadReport(Iterable<Operation> operations) {
+        for (Operation operation : operations) {
+            stats.put(operation, new Stats());
+        }
+    }
+
+    /**
+     * Marks the beginning of the measured period.
+     */
+    public void start() {
+        startMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * Marks the end of the measured period.
+     */
+    public void stop() {
+        endMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * Records a completed request. This method is thread-safe.
+     *
+     * @param operation     the operation of the request
+     * @param status        the HTTP status, or -1 if the request failed with an
+     *                      exception
+     * @param latencyNanos  the latency of the request in nanoseconds
+     */
+    public void record(Operation operation, int status, long latencyNanos) {
+        Stats operationStats = stats.get(operation);
+        operationStats.latencies.recordValue(Math.max(latencyNanos, 0));
+        if (status >= 200 && status < 300) {
+            operationStats.ok.increment();
+        } else if (operation.isRejection(status)) {
+            operationStats.rejected.increment();
+        } else {
+            operationStats.errors.increment();
+        }
+    }
+
+    /**
+     * Returns the total number of unexpected responses and failed requests.
+     *
+     * @return the number of errors
+     */
+    public long getErrors() {
+        return stats.values().stream().mapToLong(s -> s.errors.sum()).sum();
+    }
+
+    /**
+     * Returns the total number of recorded requests.
+     *
+     * @return the number of requests
+     */
+    public long getTotalCount() {
+        return stats.values().stream().mapToLong(s -> s.latencies.getTotalCount()).sum();
+    }
+
+    /**
+     * Writes the summary table to the given stream and all report files to the
+     * output directory, and compares the run against the baseline if one is
+     * configured.
+     *
+     * @param settings the settings of the run
+     * @param out      the stream receiving the human readable summary
+     * @throws IOException if a report file cannot be written or the baseline
+     *                     cannot be read
+     */
+    public void write(LoadTestSettings settings, PrintStream out) throws IOException {
+        Path directory = settings.getOutputDirectory();
+        Files.createDirectories(directory);
+
+        List<String> rows = new ArrayList<>();
+        Histogram total = new Histogram(3);
+        long ok = 0, rejected = 0, errors = 0;
+        for (Map.Entry<Operation, Stats> entry : stats.entrySet()) {
+            Stats s = entry.getValue();
+            rows.add(row(entry.getKey().getEndpoint(), s.latencies, s.ok.sum(), s.rejected.sum(), s.errors.sum()));
+            total.add(s.latencies);
+            ok += s.ok.sum();
+            rejected += s.rejected.sum();
+            errors += s.errors.sum();
+        }
+        rows.add(row("total", total, ok, rejected, errors));
+
+        List<String> csv = new ArrayList<>();
+        csv.add("# " + settings);
+        csv.add(CSV_HEADER);
+        csv.addAll(rows);
+        Files.write(directory.resolve("summary.csv"), csv);
+
+        out.println("Load test: " + settings);
+        out.printf(Locale.ROOT, "%-12s %10s %10s %10s %8s %12s %10s %10s %10s %10s %10s %10s%n",
+                (Object[]) CSV_HEADER.split(","));
+        for (String row : rows) {
+            out.printf(Locale.ROOT, "%-12s %10s %10s %10s %8s %12s %10s %10s %10s %10s %10s %10s%n",
+                    (Object[]) row.split(","));
+        }
+
+        writeHistograms(directory);
+
+        if (settings.getBaseline() != null) {
+            compare(readSummary(settings.getBaseline()), rows, out);
+        }
+    }
+
+    /**
+     * Formats one row of the summary.
+     */
+    private String row(String name, AbstractHistogram histogram, long ok, long rejected, long errors) {
+        double seconds = Math.max(endMillis - startMillis, 1) / 1000.0;
+        return String.format(Locale.ROOT, "%s,%d,%d,%d,%d,%.1f,%.1f,%.1f,%.1f,%.1f,%.1f,%.1f",
+                name, histogram.getTotalCount(), ok, rejected, errors,
+                histogram.getTotalCount() / seconds,
+                histogram.getMean() / NANOS_PER_MICRO,
+                histogram.getValueAtPercentile(50.0) / NANOS_PER_MICRO,
+                histogram.getValueAtPercentile(90.0) / NANOS_PER_MICRO,
+                histogram.getValueAtPercentile(99.0) / NANOS_PER_MICRO,
+                histogram.getValueAtPercentile(99.9) / NANOS_PER_MICRO,
+                histogram.getMaxValue() / NANOS_PER_MICRO);
+    }
+
+    /**
+     * Writes the percentile distribution of every operation and a histogram log
+     * holding all of them.
+     */
+    private void writeHistograms(Path directory) throws IOException {
+        HistogramLogWriter log = new HistogramLogWriter(directory.resolve("latency.hlog").toFile());
+        try {
+            log.outputLogFormatVersion();
+            log.outputStartTime(startMillis);
+            log.outputLegend();
+            for (Map.Entry<Operation, Stats> entry : stats.entrySet()) {
+                ConcurrentHistogram histogram = entry.getValue().latencies;
+                histogram.setTag(entry.getKey().getEndpoint());
+                histogram.setStartTimeStamp(startMillis);
+                histogram.setEndTimeStamp(endMillis);
+                log.outputIntervalHistogram(histogram);
+
+                Path distribution = directory.resolve(entry.getKey().getEndpoint() + ".hgrm");
+                try (PrintStream stream = new PrintStream(Files.newOutputStream(distribution))) {
+                    histogram.outputPercentileDistribution(stream, NANOS_PER_MICRO);
+                }
+            }
+        } finally {
+            log.close();
+        }
+    }
+
+    /**
+     * Reads the rows of a summary written by an earlier run, keyed by operation.
+     */
+    private static Map<String, String[]> readSummary(Path summary) throws IOException {
+        Map<String, String[]> rows = new HashMap<>();
+        for (String line : Files.readAllLines(summary)) {
+            if (line.startsWith("#") || line.equals(CSV_HEADER) || line.isBlank()) {
+                continue;
+            }
+            String[] columns = line.split(",");
+            rows.put(columns[0], columns);
+        }
+        return rows;
+    }
+
+    /**
+     * Prints the relative change of throughput and latency percentiles against a
+     * baseline run.
+     */
+    private static void compare(Map<String, String[]> baseline, List<String> rows, PrintStream out) {
+        String[] header = CSV_HEADER.split(",");
+        int[] compared = { 5, 7, 9, 10, 11 }; // throughput, p50, p99, p99.9, max
+
+        out.println("Compared to baseline:");
+        for (String row : rows) {
+            String[] current = row.split(",");
+            String[] previous = baseline.get(current[0]);
+            if (previous == null) {
+                continue;
+            }
+            StringBuilder line = new StringBuilder(String.format(Locale.ROOT, "%-12s", current[0]));
+            for (int column : compared) {
+                double before = Double.parseDouble(previous[column]);
+                double after = Double.parseDouble(current[column]);
+                double change = before == 0 ? 0 : (after - before) * 100.0 / before;
+                line.append(String.format(Locale.ROOT, " %s %+.1f%%", header[column], change));
+            }
+            out.println(line);
+        }
+    }
+}
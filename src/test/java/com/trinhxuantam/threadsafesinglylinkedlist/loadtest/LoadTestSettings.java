@@ -0,0 +1,125 @@
+package com.trinhxuantam.threadsafesinglylinkedlist.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+import lombok.Getter;
+
+/**
+ * Settings of a load test run, read from {@code loadtest.*} system properties
+ * so that runs can be tuned from the command line, e.g.
+ * {@code mvn test -Ploadtest -Dloadtest.mode=open -Dloadtest.rate=5000}.
+ */
+@Getter
+public class LoadTestSettings {
+
+    /**
+     * How requests are issued.
+     */
+    public enum Mode {
+        /**
+         * Every client sends its next request as soon as the previous one completed.
+         * Measures service time at the throughput the server manages to sustain.
+         */
+        CLOSED,
+
+        /**
+         * Requests are issued at a fixed rate regardless of completions and latency is
+         * measured from the intended send time, so queueing delay is not hidden
+         * (no coordinated omission).
+         */
+        OPEN
+    }
+
+    private final Mode mode; // Closed or open loop
+
+    private final int clients; // Concurrent clients, or dispatch threads in open loop
+
+    private final int rate; // Target requests per second in open loop
+
+    private final int maxInFlight; // Upper bound on outstanding requests in open loop
+
+    private final Duration warmup; // Period whose latencies are discarded
+
+    private final Duration duration; // Measured period
+
+    private final Map<Operation, Integer> mix; // Relative weight of each operation
+
+    private final int valueRange; // Values are drawn from [0, valueRange)
+
+    private final Path outputDirectory; // Where reports are written
+
+    private final Path baseline; // Summary of a previous run to compare against, may be null
+
+    private LoadTestSettings(Mode mode, int clients, int rate, int maxInFlight, Duration warmup, Duration duration,
+            Map<Operation, Integer> mix, int valueRange, Path outputDirectory, Path baseline) {
+        this.mode = mode;
+        this.clients = clients;
+        this.rate = rate;
+        this.maxInFlight = maxInFlight;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.mix = mix;
+        this.valueRange = valueRange;
+        this.outputDirectory = outputDirectory;
+        this.baseline = baseline;
+    }
+
+    /**
+     * Reads the settings from the system properties, using defaults for the
+     * missing ones.
+     *
+     * @return the settings
+     * @throws IllegalArgumentException if a property has an invalid value
+     */
+    public static LoadTestSettings fromSystemProperties() throws IllegalArgumentException {
+        String baseline = System.getProperty("loadtest.baseline");
+        return new LoadTestSettings(
+                Mode.valueOf(System.getProperty("loadtest.mode", "closed").toUpperCase()),
+                Integer.getInteger("loadtest.clients", 16),
+                Integer.getInteger("loadtest.rate", 2000),
+                Integer.getInteger("loadtest.maxInFlight", 1024),
+                Duration.ofSeconds(Integer.getInteger("loadtest.warmupSeconds", 5)),
+                Duration.ofSeconds(Integer.getInteger("loadtest.durationSeconds", 30)),
+                parseMix(System.getProperty("loadtest.mix", "add=40,insertAfter=10,pop=30,all=20")),
+                Integer.getInteger("loadtest.valueRange", 1000),
+                Path.of(System.getProperty("loadtest.output", "target/loadtest")),
+                baseline == null || baseline.isBlank() ? null : Path.of(baseline));
+    }
+
+    /**
+     * Parses an operation mix such as {@code add=40,pop=30,all=30}.
+     *
+     * @param mix the textual mix
+     * @return the weight of each operation present in the mix
+     * @throws IllegalArgumentException if the mix is malformed or has no positive
+     *                                  weight
+     */
+    static Map<Operation, Integer> parseMix(String mix) throws IllegalArgumentException {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid operation mix entry: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight in operation mix: " + entry);
+            }
+            weights.put(Operation.fromName(parts[0].trim()), weight);
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("The operation mix has no positive weight: " + mix);
+        }
+        return weights;
+    }
+
+    @Override
+    public String toString() {
+        return "mode=" + mode + ", clients=" + clients + (mode == Mode.OPEN ? ", rate=" + rate + "/s" : "")
+                + ", warmup=" + warmup.getSeconds() + "s, duration=" + duration.getSeconds() + "s, mix=" + mix
+                + ", valueRange=" + valueRange;
+    }
+}
@@ -0,0 +1,100 @@
+package com.trinhxuantam.threadsafesinglylinkedlist.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The linked list endpoints driven by the load generator.
+ */
+public enum Operation {
+    ADD("add") {
+        @Override
+        HttpRequest request(URI baseUri, int valueRange) {
+            return post(baseUri.resolve("add"), "{\"element\":" + randomValue(valueRange) + "}");
+        }
+    },
+    INSERT_AFTER("insertAfter") {
+        @Override
+        HttpRequest request(URI baseUri, int valueRange) {
+            return post(baseUri.resolve("insertAfter"),
+                    "{\"element\":" + randomValue(valueRange) + ",\"after\":" + randomValue(valueRange) + "}");
+        }
+    },
+    POP("pop") {
+        @Override
+        HttpRequest request(URI baseUri, int valueRange) {
+            return HttpRequest.newBuilder(baseUri.resolve("pop")).DELETE().build();
+        }
+    },
+    ALL("all") {
+        @Override
+        HttpRequest request(URI baseUri, int valueRange) {
+            return HttpRequest.newBuilder(baseUri.resolve("all")).GET().build();
+        }
+    };
+
+    private final String endpoint; // Name of the endpoint, as used in the operation mix
+
+    Operation(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * Builds a request for this operation.
+     *
+     * @param baseUri    the URI of the linked list API, ending with a slash
+     * @param valueRange the values used as elements are drawn from [0, valueRange)
+     * @return the request
+     */
+    abstract HttpRequest request(URI baseUri, int valueRange);
+
+    /**
+     * Returns the name of the endpoint of this operation.
+     *
+     * @return the endpoint name
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Tells whether a response status is an expected rejection rather than an
+     * error: inserting after a missing element answers 404 and popping from an
+     * empty list answers 400, both of which are normal under a random mix.
+     *
+     * @param status the HTTP status code
+     * @return true if the status is an expected rejection
+     */
+    boolean isRejection(int status) {
+        return (this == INSERT_AFTER && status == 404) || (this == POP && status == 400);
+    }
+
+    /**
+     * Looks up an operation by its endpoint name.
+     *
+     * @param endpoint the endpoint name, e.g. {@code insertAfter}
+     * @return the operation
+     * @throws IllegalArgumentException if no operation has this name
+     */
+    public static Operation fromName(String endpoint) throws IllegalArgumentException {
+        for (Operation operation : values()) {
+            if (operation.endpoint.equalsIgnoreCase(endpoint)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation: " + endpoint);
+    }
+
+    private static int randomValue(int valueRange) {
+        return ThreadLocalRandom.current().nextInt(valueRange);
+    }
+
+    private static HttpRequest post(URI uri, String json) {
+        return HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .POST(BodyPublishers.ofString(json))
+                .build();
+    }
+}